@@ -0,0 +1,143 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.product.ProductStockBucket;
+import com.example.commerce_mvp.domain.product.StockJournalCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.LockModeType;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 상품 하나에 주문이 몰릴 때 재고 확보 처리량을 StockReservationEngine과 상품 행 잠금(findByIdsWithLock)으로 비교한다.
+ * 두 방식 모두 한 번 차감한 뒤 바로 복구해 재고가 바닥나지 않게 유지한다.
+ *
+ * reserveAndRelease: 엔진 예약(차감 저널 기록) 후 복구(증가 저널 기록). journalFsync=true면 동시에 기록한 스레드들이
+ * fsync를 나눠 쓰는 그룹 커밋 비용이 포함된다. DB 대신 항상 같은 재고를 돌려주는 스텁 저장소를 사용하므로 DB 반영(flush) 비용은 포함되지 않는다.
+ * lockAndUpdate: 인메모리 H2에서 PessimisticLockInventoryStrategy와 같은 SELECT ... FOR UPDATE로 상품 행을 잠그고
+ * 엔티티 재고를 바꿔 커밋하는 트랜잭션을 차감/복구 두 번 실행한다. 인메모리 DB라 커밋의 디스크 동기화 비용은 포함되지 않는다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class StockReservationEngineBenchmark {
+
+    private static final SortedMap<Long, Integer> LINE = Collections.unmodifiableSortedMap(new TreeMap<>(Map.of(1L, 1)));
+
+    @State(Scope.Benchmark)
+    public static class EngineState {
+
+        @Param({"false", "true"})
+        private boolean journalFsync;
+
+        private StockReservationEngine engine;
+
+        @Setup
+        public void setUp() throws IOException {
+            Path journalDir = Files.createTempDirectory("stock-journal");
+            engine = new StockReservationEngine(stub(ProductRepository.class), stub(StockJournalCheckpointRepository.class),
+                    stub(PlatformTransactionManager.class), new SimpleMeterRegistry(), event -> { },
+                    journalDir.resolve("stock-journal.log").toString(), journalFsync);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            engine.shutdown();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LockState {
+
+        // ProductRepository.findByIdsWithLock과 같은 쿼리
+        private static final String LOCK_QUERY = "SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id ASC";
+        private static final String SEED =
+                "INSERT INTO product (id, name, price, stock, image_url, naver_product_id, category1, category2, stock_bucket_count) " +
+                "VALUES (1, '상품', 10000, 1000000, 'https://example.com/1', 'bench-1', '디지털/가전', '노트북', 0)";
+
+        private SessionFactory sessionFactory;
+
+        @Setup
+        public void setUp() {
+            sessionFactory = new MetadataSources(new StandardServiceRegistryBuilder()
+                    .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:stock;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+                    .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                    // 운영과 같은 컬럼 이름 (Spring Boot 기본 네이밍)
+                    .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                    .build())
+                    .addAnnotatedClass(Product.class)
+                    .addAnnotatedClass(ProductStockBucket.class)
+                    .buildMetadata()
+                    .buildSessionFactory();
+            sessionFactory.inTransaction(session -> session.createNativeMutationQuery(SEED).executeUpdate());
+        }
+
+        @TearDown
+        public void tearDown() {
+            sessionFactory.close();
+        }
+
+        private void adjustStock(int delta) {
+            sessionFactory.inTransaction(session -> {
+                List<Product> products = session.createQuery(LOCK_QUERY, Product.class)
+                        .setParameter("ids", List.copyOf(LINE.keySet()))
+                        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                        .getResultList();
+                for (Product product : products) {
+                    if (delta < 0) {
+                        product.decreaseStock(-delta);
+                    } else {
+                        product.increaseStock(delta);
+                    }
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public boolean reserveAndRelease(EngineState state) {
+        boolean accepted = state.engine.reserve(LINE).isEmpty();
+        if (accepted) {
+            state.engine.release(LINE);
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    public void lockAndUpdate(LockState state) {
+        state.adjustStock(-1);
+        state.adjustStock(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "findStockById" -> Optional.of(1_000_000);
+                    case "findById" -> Optional.empty();
+                    case "getTransaction" -> new SimpleTransactionStatus();
+                    case "applyStockDelta" -> 1;
+                    case "save" -> args[0];
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.product.dto.ProductDto;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductStockBucket;
+import com.example.commerce_mvp.domain.product.ProductSummary;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 상품 목록 한 페이지 조회 비용을 엔티티 조회(기존)와 생성자 프로젝션(현재)으로 비교한다.
+ * 인메모리 H2에 catalogSize개의 상품을 넣고, 호출마다 임의의 커서 위치에서 pageSize + 1건을 읽어 ProductDto로 변환한다.
+ * 두 방식 모두 Spring의 readOnly 트랜잭션처럼 세션을 읽기 전용, 수동 flush로 연다.
+ * 페이지당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 값으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductListQueryBenchmark {
+
+    private static final String ENTITY_QUERY =
+            "SELECT p FROM Product p WHERE p.id > :cursorId ORDER BY p.id ASC";
+    private static final String PROJECTION_QUERY =
+            "SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.id > :cursorId ORDER BY p.id ASC";
+    private static final String SEED =
+            "INSERT INTO product (name, price, stock, image_url, naver_product_id, category1, category2, stock_bucket_count) " +
+            "SELECT CONCAT('상품', X), 1000 + MOD(X, 100000), 100, CONCAT('https://example.com/', X), " +
+            "CONCAT('bench-', X), '디지털/가전', '노트북', 0 FROM SYSTEM_RANGE(1, :count)";
+
+    @Param({"1000000"})
+    private int catalogSize;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private SessionFactory sessionFactory;
+    private final long[] cursors = new long[1024];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new MetadataSources(new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:catalog;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // 운영과 같은 컬럼 이름 (Spring Boot 기본 네이밍)
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .build())
+                .addAnnotatedClass(Product.class)
+                .addAnnotatedClass(ProductStockBucket.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery(SEED)
+                .setParameter("count", catalogSize)
+                .executeUpdate());
+
+        // 앞쪽 페이지만 반복해서 읽지 않도록 카탈로그 전체에서 커서 위치를 고름
+        Random random = new Random(42);
+        for (int i = 0; i < cursors.length; i++) {
+            cursors[i] = random.nextInt(catalogSize - pageSize);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<ProductDto> entityPage() {
+        long cursorId = nextCursor();
+        return readOnly(session -> session.createQuery(ENTITY_QUERY, Product.class)
+                .setParameter("cursorId", cursorId)
+                .setMaxResults(pageSize + 1)
+                .getResultList()
+                .stream()
+                .limit(pageSize)
+                .map(ProductDto::new)
+                .toList());
+    }
+
+    @Benchmark
+    public List<ProductDto> projectionPage() {
+        long cursorId = nextCursor();
+        return readOnly(session -> session.createQuery(PROJECTION_QUERY, ProductSummary.class)
+                .setParameter("cursorId", cursorId)
+                .setMaxResults(pageSize + 1)
+                .getResultList()
+                .stream()
+                .limit(pageSize)
+                .map(ProductDto::new)
+                .toList());
+    }
+
+    private long nextCursor() {
+        return cursors[next++ & (cursors.length - 1)];
+    }
+
+    private <T> T readOnly(Function<Session, T> work) {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            Transaction transaction = session.beginTransaction();
+            try {
+                T result = work.apply(session);
+                transaction.commit();
+                return result;
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.commerce_mvp.config;
+
+import com.example.commerce_mvp.application.user.UserPrincipal;
+import com.example.commerce_mvp.domain.user.SocialProvider;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRepository;
+import com.example.commerce_mvp.domain.user.UserRole;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * JwtAuthenticationFilter 한 번 통과에 걸리는 시간을 비교한다.
+ * statelessPrincipal=false는 기존처럼 요청마다 UserRepository.findByEmail을 호출한다.
+ * 실제 DB 대신 lookupLatencyMicros만큼 대기하는 스텁 저장소를 사용하므로,
+ * lookupLatencyMicros=0은 순수 CPU 비용, 그 외 값은 DB 왕복 시간을 가정한 결과이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "VGhpc0lzQV9UZXN0U2VjcmV0S2V5Rm9yTXlTcHJpbmdCb290UHJvamVjdF8xMjM0NTY3ODkw";
+
+    @Param({"true", "false"})
+    private boolean statelessPrincipal;
+
+    @Param({"0", "300"})
+    private long lookupLatencyMicros;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .email("bench@example.com")
+                .username("bench")
+                .provider(SocialProvider.GOOGLE)
+                .providerId("bench")
+                .role(UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        long lookupLatencyNanos = TimeUnit.MICROSECONDS.toNanos(lookupLatencyMicros);
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findByEmail")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    if (lookupLatencyNanos > 0) {
+                        LockSupport.parkNanos(lookupLatencyNanos);
+                    }
+                    return Optional.of(user);
+                });
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 3600000, 1209600000,
+                statelessPrincipal, 0, 0, userRepository, new StaleClaimsRegistry(3600000));
+        String accessToken = jwtTokenProvider.generateToken(new UserPrincipal(user)).getAccessToken();
+
+        filter = new JwtAuthenticationFilter(jwtTokenProvider);
+        request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+    }
+
+    @Benchmark
+    public void doFilter(Blackhole blackhole) throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
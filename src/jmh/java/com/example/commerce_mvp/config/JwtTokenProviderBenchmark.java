@@ -0,0 +1,68 @@
+package com.example.commerce_mvp.config;
+
+import com.example.commerce_mvp.application.user.UserPrincipal;
+import com.example.commerce_mvp.domain.user.SocialProvider;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRepository;
+import com.example.commerce_mvp.domain.user.UserRole;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider의 발급/검증 처리량.
+ * verifiedTokenCacheSize=0은 매번 HMAC 검증과 Claims 파싱을 수행하고,
+ * 그 외 값은 같은 토큰이 반복 요청되는 상황(검증 캐시 히트)을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "VGhpc0lzQV9UZXN0U2VjcmV0S2V5Rm9yTXlTcHJpbmdCb290UHJvamVjdF8xMjM0NTY3ODkw";
+
+    @Param({"0", "10000"})
+    private int verifiedTokenCacheSize;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserPrincipal principal;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .email("bench@example.com")
+                .username("bench")
+                .provider(SocialProvider.GOOGLE)
+                .providerId("bench")
+                .role(UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        principal = new UserPrincipal(user);
+
+        // stateless 모드에서는 저장소가 호출되지 않으므로 빈 프록시로 충분
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600000, 1209600000, true,
+                verifiedTokenCacheSize, 60000, userRepository, new StaleClaimsRegistry(3600000));
+        accessToken = jwtTokenProvider.generateAccessToken(principal);
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtTokenProvider.generateAccessToken(principal);
+    }
+
+    @Benchmark
+    public Claims validate() {
+        return jwtTokenProvider.verify(accessToken).orElseThrow();
+    }
+}
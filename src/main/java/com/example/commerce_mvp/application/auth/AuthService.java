@@ -4,7 +4,7 @@ import com.example.commerce_mvp.application.auth.dto.AccessTokenOnlyResponseDto;
 import com.example.commerce_mvp.application.auth.dto.TokenResponseDto;
 import com.example.commerce_mvp.application.common.exception.BusinessException;
 import com.example.commerce_mvp.application.common.exception.ErrorCode;
-import com.example.commerce_mvp.application.user.UserService;
+import com.example.commerce_mvp.application.user.UserPrincipal;
 import com.example.commerce_mvp.config.JwtTokenProvider;
 import com.example.commerce_mvp.domain.auth.RefreshToken;
 import com.example.commerce_mvp.domain.auth.RefreshTokenRepository;
@@ -12,13 +12,10 @@ import com.example.commerce_mvp.domain.user.User;
 import com.example.commerce_mvp.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 
 @Slf4j
 @Service
@@ -51,11 +48,8 @@ public class AuthService {
         User user = userRepository.findByEmail(storedRefreshToken.getUserEmail())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + storedRefreshToken.getUserEmail()));
 
-        // 사용자 권한 정보 생성
-        GrantedAuthority authority = new SimpleGrantedAuthority(user.getRole().getValue());
-        
-        // 새로운 Access Token 생성
-        String newAccessToken = jwtTokenProvider.generateAccessToken(storedRefreshToken.getUserEmail(), Collections.singletonList(authority));
+        // 새로운 Access Token 생성 (사용자 ID/권한을 클레임으로 포함)
+        String newAccessToken = jwtTokenProvider.generateAccessToken(new UserPrincipal(user));
         
         // 새로운 Refresh Token 생성
         String newRefreshToken = jwtTokenProvider.generateRefreshToken();
@@ -97,5 +91,7 @@ public class AuthService {
 
     public void revokeAllUserTokens(String userEmail) {
         refreshTokenRepository.deleteByUserEmail(userEmail);
+        // 이미 발급된 Access Token의 클레임은 더 이상 신뢰하지 않음
+        jwtTokenProvider.markClaimsStale(userEmail);
     }
 }
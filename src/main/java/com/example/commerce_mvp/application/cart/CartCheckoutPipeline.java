@@ -0,0 +1,87 @@
+package com.example.commerce_mvp.application.cart;
+
+import com.example.commerce_mvp.application.cart.dto.CreateOrderFromCartRequestDto;
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.LockRetryTemplate;
+import com.example.commerce_mvp.application.order.OrderPlacer;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
+import com.example.commerce_mvp.domain.cart.CartLineView;
+import com.example.commerce_mvp.domain.cart.CartRepository;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 장바구니 전체를 한 트랜잭션에서 주문으로 전환한다
+ * (장바구니 한 줄 요약 한 번 조회 → 재고 전략으로 한 번 잠금/예약하며 차감 → 주문 저장 → 구매한 장바구니 행 삭제).
+ * 재고 부족 여부는 사전 조회 없이 잠근(또는 예약한) 값으로만 판단한다.
+ * 트랜잭션 경계와 락 경합 재시도는 LockRetryTemplate이 정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartCheckoutPipeline {
+
+    private final CartRepository cartRepository;
+    private final UserRepository userRepository;
+    private final OrderPlacer orderPlacer;
+    private final LockRetryTemplate lockRetryTemplate;
+    private final CartViewCache cartViewCache;
+
+    public OrderResponseDto checkout(Long userId, CreateOrderFromCartRequestDto request) {
+        return lockRetryTemplate.execute(() -> {
+            List<CartLineView> lines = cartRepository.findLineViewsByUserId(userId);
+            if (lines.isEmpty()) {
+                throw new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND, "장바구니가 비어있습니다.");
+            }
+
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userId));
+
+            Order order = place(user, toOrderRequest(lines, request));
+
+            // 구매한 장바구니 행만 같은 트랜잭션에서 삭제
+            List<Long> cartItemIds = lines.stream().map(CartLineView::cartId).toList();
+            cartRepository.deleteByUserIdAndIdIn(userId, cartItemIds);
+            cartViewCache.invalidate(userId);
+
+            log.info("장바구니 결제 완료 - 사용자 ID: {}, 주문 ID: {}, 아이템 수: {}", userId, order.getId(), lines.size());
+            return OrderResponseDto.from(order);
+        });
+    }
+
+    // 재고 부족(INSUFFICIENT_STOCK)만 장바구니 재고 부족 에러로 바꾸고 나머지 예외는 그대로 전달
+    private Order place(User user, CreateOrderRequestDto orderRequest) {
+        try {
+            return orderPlacer.place(user, orderRequest);
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.INSUFFICIENT_STOCK) {
+                throw new BusinessException(ErrorCode.CART_ITEM_OUT_OF_STOCK, "재고가 부족한 상품이 있습니다. 장바구니를 확인해주세요.");
+            }
+            throw e;
+        }
+    }
+
+    private CreateOrderRequestDto toOrderRequest(List<CartLineView> lines, CreateOrderFromCartRequestDto request) {
+        List<CreateOrderRequestDto.OrderItemRequestDto> orderItems = lines.stream()
+                .map(line -> CreateOrderRequestDto.OrderItemRequestDto.builder()
+                        .productId(line.productId())
+                        .quantity(line.quantity())
+                        .build())
+                .toList();
+
+        return CreateOrderRequestDto.builder()
+                .orderItems(orderItems)
+                .shippingAddress(request.getShippingAddress())
+                .shippingPhone(request.getShippingPhone())
+                .shippingName(request.getShippingName())
+                .build();
+    }
+}
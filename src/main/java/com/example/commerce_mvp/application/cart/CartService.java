@@ -3,29 +3,41 @@ package com.example.commerce_mvp.application.cart;
 import com.example.commerce_mvp.application.common.dto.SliceResponse;
 import com.example.commerce_mvp.application.common.exception.BusinessException;
 import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.common.util.KeysetCursor;
 import com.example.commerce_mvp.application.common.util.SecurityContextUtils;
 import com.example.commerce_mvp.application.cart.dto.AddCartItemRequestDto;
+import com.example.commerce_mvp.application.cart.dto.CartBatchRequestDto;
+import com.example.commerce_mvp.application.cart.dto.CartBatchRequestDto.OperationDto;
+import com.example.commerce_mvp.application.cart.dto.CartBatchRequestDto.OperationType;
+import com.example.commerce_mvp.application.cart.dto.CartBatchResponseDto;
 import com.example.commerce_mvp.application.cart.dto.CartItemResponseDto;
 import com.example.commerce_mvp.application.cart.dto.CartSummaryResponseDto;
 import com.example.commerce_mvp.application.cart.dto.CreateOrderFromCartRequestDto;
 import com.example.commerce_mvp.application.cart.dto.UpdateCartItemRequestDto;
-import com.example.commerce_mvp.application.order.OrderService;
-import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
 import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
 import com.example.commerce_mvp.domain.cart.Cart;
+import com.example.commerce_mvp.domain.cart.CartItemOwner;
+import com.example.commerce_mvp.domain.cart.CartLineView;
 import com.example.commerce_mvp.domain.cart.CartRepository;
-import com.example.commerce_mvp.domain.product.Product;
 import com.example.commerce_mvp.domain.product.ProductRepository;
 import com.example.commerce_mvp.domain.user.User;
 import com.example.commerce_mvp.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Slice;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,122 +47,205 @@ import java.util.stream.Collectors;
 public class CartService {
 
     private final CartRepository cartRepository;
-    private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final OrderService orderService;
+    private final ProductRepository productRepository;
+    private final CartCheckoutPipeline cartCheckoutPipeline;
+    private final CartViewCache cartViewCache;
 
     @Transactional
     public CartItemResponseDto addCartItem(AddCartItemRequestDto request) {
-        // SecurityContext에서 사용자 이메일 조회
-        String userEmail = SecurityContextUtils.getCurrentUserEmail();
-        
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userEmail));
-
-        // 상품 조회
-        Product product = productRepository.findById(request.getProductId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + request.getProductId()));
-
-        // 동시성 제어를 위해 Lock으로 기존 장바구니 아이템 조회
-        Cart existingCart = cartRepository.findByUserAndProductWithLock(user, product).orElse(null);
-
-        Cart cart;
-        if (existingCart != null) {
-            // 기존 아이템이 있으면 수량 증가
-            existingCart.increaseQuantity(request.getQuantity());
-            cart = cartRepository.save(existingCart);
-            log.info("장바구니 수량 증가 - 사용자: {}, 상품: {}, 수량: {}", userEmail, product.getName(), request.getQuantity());
-        } else {
-            // 새 아이템 추가
-            cart = Cart.builder()
-                    .user(user)
-                    .product(product)
-                    .quantity(request.getQuantity())
-                    .build();
-            cart = cartRepository.save(cart);
-            log.info("장바구니 아이템 추가 - 사용자: {}, 상품: {}, 수량: {}", userEmail, product.getName(), request.getQuantity());
+        // 인증 정보의 사용자 ID로 바로 처리 (사용자 조회 생략)
+        Long userId = SecurityContextUtils.getCurrentUser().getId();
+
+        // 없으면 추가, 있으면 수량 증가를 한 번의 쓰기로 처리 (유니크 제약으로 중복 행 방지)
+        try {
+            cartRepository.upsertQuantity(userId, request.getProductId(), request.getQuantity());
+        } catch (DataIntegrityViolationException e) {
+            // 외래 키 위반 - 존재하지 않는 상품
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + request.getProductId());
         }
 
-        return CartItemResponseDto.from(cart);
-    }
+        cartViewCache.invalidate(userId);
 
-    public SliceResponse<CartItemResponseDto> getCartItems(int page, int size) {
-        // SecurityContext에서 사용자 이메일 조회
-        String userEmail = SecurityContextUtils.getCurrentUserEmail();
-        
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userEmail));
+        CartLineView line = cartRepository.findLineView(userId, request.getProductId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + request.getProductId()));
 
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Slice<Cart> cartSlice = cartRepository.findByUserOrderByUpdatedAtDesc(user, pageRequest);
+        log.info("장바구니 담기 - 사용자 ID: {}, 상품: {}, 추가 수량: {}, 현재 수량: {}",
+                userId, line.productName(), request.getQuantity(), line.quantity());
+        return CartItemResponseDto.from(line);
+    }
 
-        List<CartItemResponseDto> content = cartSlice.getContent().stream()
+    public SliceResponse<CartItemResponseDto> getCartItems(String cursor, int size) {
+        // 인증 정보의 사용자 ID로 캐시된 장바구니를 사용 (사용자 조회 쿼리 생략)
+        Long userId = SecurityContextUtils.getCurrentUser().getId();
+        List<CartLineView> lines = cachedLines(userId);
+
+        // 캐시된 목록이 (updatedAt, id) 내림차순이므로 커서 이후 size + 1건만 골라 다음 페이지 여부 판단
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<CartLineView> page = new ArrayList<>(size);
+        boolean hasNext = false;
+        for (CartLineView line : lines) {
+            if (after != null && !isAfter(line, after)) {
+                continue;
+            }
+            if (page.size() == size) {
+                hasNext = true;
+                break;
+            }
+            page.add(line);
+        }
+        List<CartItemResponseDto> content = page.stream()
                 .map(CartItemResponseDto::from)
                 .collect(Collectors.toList());
 
-        return new SliceResponse<>(content, cartSlice.hasNext(), null);
+        String nextCursor = null;
+        if (hasNext) {
+            CartLineView last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.updatedAt(), last.cartId()).encode();
+        }
+        return new SliceResponse<>(content, hasNext, nextCursor);
     }
 
     public CartSummaryResponseDto getCartSummary() {
-        // SecurityContext에서 사용자 이메일 조회
-        String userEmail = SecurityContextUtils.getCurrentUserEmail();
-        
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userEmail));
-
-        // 장바구니 아이템 조회
-        List<Cart> cartItems = cartRepository.findByUserOrderByUpdatedAtDesc(user);
-        
-        // 재고 부족 아이템 확인
-        List<Cart> outOfStockItems = cartRepository.findOutOfStockItemsByUser(user);
-        boolean hasOutOfStockItems = !outOfStockItems.isEmpty();
-
-        // 총 금액 계산
-        Long totalAmount = cartRepository.getTotalAmountByUser(user);
-        if (totalAmount == null) {
-            totalAmount = 0L;
+        // 인증 정보의 사용자 ID로 바로 조회 (사용자 조회 쿼리 생략)
+        Long userId = SecurityContextUtils.getCurrentUser().getId();
+
+        // 장바구니 한 줄 요약(캐시 또는 프로젝션 한 번)으로 총 금액과 재고 부족 여부를 함께 계산
+        List<CartLineView> lines = cachedLines(userId);
+
+        List<CartItemResponseDto> cartItemDtos = new ArrayList<>(lines.size());
+        long totalAmount = 0;
+        boolean hasOutOfStockItems = false;
+        for (CartLineView line : lines) {
+            cartItemDtos.add(CartItemResponseDto.from(line));
+            totalAmount += line.totalPrice();
+            hasOutOfStockItems |= !line.isStockAvailable();
         }
 
-        List<CartItemResponseDto> cartItemDtos = cartItems.stream()
-                .map(CartItemResponseDto::from)
-                .collect(Collectors.toList());
-
-        return CartSummaryResponseDto.of(cartItemDtos, totalAmount.intValue(), hasOutOfStockItems);
+        return CartSummaryResponseDto.of(cartItemDtos, (int) totalAmount, hasOutOfStockItems);
     }
 
     @Transactional
     public CartItemResponseDto updateCartItem(Long cartItemId, UpdateCartItemRequestDto request) {
-        // SecurityContext에서 사용자 이메일 조회
-        String userEmail = SecurityContextUtils.getCurrentUserEmail();
-        
-        // 장바구니 아이템 조회 (@PreAuthorize에서 권한 검증)
-        Cart cart = cartRepository.findById(cartItemId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND, "장바구니 아이템을 찾을 수 없습니다: " + cartItemId));
+        Long userId = SecurityContextUtils.getCurrentUser().getId();
 
-        // 수량 업데이트
-        cart.updateQuantity(request.getQuantity());
-        Cart savedCart = cartRepository.save(cart);
+        // 소유자 조건을 포함한 UPDATE 한 번으로 권한 검증과 수량 변경을 함께 처리
+        int updated = cartRepository.updateQuantityByIdAndUserId(cartItemId, userId, request.getQuantity(), LocalDateTime.now());
+        if (updated == 0) {
+            throw cartItemNotAccessible(cartItemId);
+        }
+        cartViewCache.invalidate(userId);
 
-        log.info("장바구니 아이템 수정 - 사용자: {}, 상품: {}, 수량: {}", userEmail, cart.getProduct().getName(), request.getQuantity());
+        CartLineView line = cartRepository.findLineViewById(cartItemId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND, "장바구니 아이템을 찾을 수 없습니다: " + cartItemId));
 
-        return CartItemResponseDto.from(savedCart);
+        log.info("장바구니 아이템 수정 - 사용자 ID: {}, 상품: {}, 수량: {}", userId, line.productName(), request.getQuantity());
+        return CartItemResponseDto.from(line);
     }
 
     @Transactional
     public void removeCartItem(Long cartItemId) {
-        // SecurityContext에서 사용자 이메일 조회
-        String userEmail = SecurityContextUtils.getCurrentUserEmail();
-        
-        // 장바구니 아이템 조회 (@PreAuthorize에서 권한 검증)
-        Cart cart = cartRepository.findById(cartItemId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND, "장바구니 아이템을 찾을 수 없습니다: " + cartItemId));
+        Long userId = SecurityContextUtils.getCurrentUser().getId();
+
+        // 소유자 조건을 포함한 DELETE 한 번으로 권한 검증과 삭제를 함께 처리
+        int deleted = cartRepository.deleteByIdAndUserId(cartItemId, userId);
+        if (deleted == 0) {
+            throw cartItemNotAccessible(cartItemId);
+        }
+        cartViewCache.invalidate(userId);
+
+        log.info("장바구니 아이템 삭제 - 사용자 ID: {}, 장바구니 아이템 ID: {}", userId, cartItemId);
+    }
+
+    /**
+     * 담기/수량 변경/삭제 연산 여러 개를 한 트랜잭션에서 적용하고 연산별 결과를 돌려준다.
+     * 상품과 소유권은 IN 조회 한 번씩으로 확인하고, 쓰기는 삭제 → 수량 변경 → 담기 순서로 종류별 한 번에 보낸다.
+     * 검증에 실패한 연산만 실패로 표시하며 나머지 연산은 그대로 적용한다.
+     */
+    @Transactional
+    public CartBatchResponseDto applyBatch(CartBatchRequestDto request) {
+        Long userId = SecurityContextUtils.getCurrentUser().getId();
+        List<OperationDto> operations = request.getOperations();
+
+        // 연산에 등장하는 상품과 장바구니 아이템을 종류별 IN 조회 한 번으로 확인
+        Set<Long> productIds = new HashSet<>();
+        Set<Long> cartItemIds = new HashSet<>();
+        for (OperationDto operation : operations) {
+            if (operation.getType() == OperationType.ADD && operation.getProductId() != null) {
+                productIds.add(operation.getProductId());
+            } else if (operation.getType() != OperationType.ADD && operation.getCartItemId() != null) {
+                cartItemIds.add(operation.getCartItemId());
+            }
+        }
+        Set<Long> existingProductIds = productIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(productRepository.findExistingIds(new ArrayList<>(productIds)));
+        Map<Long, Long> ownerIds = cartItemIds.isEmpty()
+                ? Map.of()
+                : cartRepository.findOwnersByIds(new ArrayList<>(cartItemIds)).stream()
+                        .collect(Collectors.toMap(CartItemOwner::cartItemId, CartItemOwner::userId));
+
+        CartBatchResponseDto.LineResultDto[] results = new CartBatchResponseDto.LineResultDto[operations.size()];
+        Map<Long, Integer> additions = new LinkedHashMap<>();
+        Map<Long, Integer> updates = new LinkedHashMap<>();
+        List<Long> removals = new ArrayList<>();
+        Set<Long> touchedCartItemIds = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            OperationDto operation = operations.get(i);
+            BusinessException rejection = rejectionOf(operation, userId, existingProductIds, ownerIds, touchedCartItemIds);
+            if (rejection != null) {
+                results[i] = CartBatchResponseDto.LineResultDto.failed(i, operation.getType(), rejection);
+                continue;
+            }
+            switch (operation.getType()) {
+                // 같은 상품을 여러 번 담으면 수량을 합산
+                case ADD -> additions.merge(operation.getProductId(), operation.getQuantity(), Integer::sum);
+                case UPDATE -> updates.put(operation.getCartItemId(), operation.getQuantity());
+                case REMOVE -> removals.add(operation.getCartItemId());
+            }
+        }
+
+        if (!removals.isEmpty()) {
+            cartRepository.deleteByUserIdAndIdIn(userId, removals);
+        }
+        cartRepository.updateQuantities(userId, updates);
+        try {
+            cartRepository.upsertQuantities(userId, additions);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(ErrorCode.CART_BATCH_CONFLICT, "장바구니가 동시에 변경되었습니다. 다시 시도해주세요.");
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 삭제된 상품 - 전체 롤백
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "담으려는 상품 중 삭제된 상품이 있습니다.");
+        }
+
+        cartViewCache.invalidate(userId);
 
-        cartRepository.delete(cart);
+        // 적용된 연산의 결과는 변경 후 장바구니 프로젝션 한 번으로 채움
+        List<CartLineView> lines = cartRepository.findLineViewsByUserId(userId);
+        Map<Long, CartLineView> linesByCartItemId = new HashMap<>();
+        Map<Long, CartLineView> linesByProductId = new HashMap<>();
+        for (CartLineView line : lines) {
+            linesByCartItemId.put(line.cartId(), line);
+            linesByProductId.put(line.productId(), line);
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            OperationDto operation = operations.get(i);
+            CartLineView line = switch (operation.getType()) {
+                case ADD -> linesByProductId.get(operation.getProductId());
+                case UPDATE -> linesByCartItemId.get(operation.getCartItemId());
+                case REMOVE -> null;
+            };
+            results[i] = CartBatchResponseDto.LineResultDto.applied(i, operation.getType(),
+                    line == null ? null : CartItemResponseDto.from(line));
+        }
 
-        log.info("장바구니 아이템 삭제 - 사용자: {}, 상품: {}", userEmail, cart.getProduct().getName());
+        CartBatchResponseDto response = CartBatchResponseDto.of(List.of(results));
+        log.info("장바구니 일괄 변경 - 사용자 ID: {}, 연산 수: {}, 성공: {}, 실패: {}",
+                userId, operations.size(), response.getAppliedCount(), response.getFailedCount());
+        return response;
     }
 
     @Transactional
@@ -163,6 +258,7 @@ public class CartService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userEmail));
 
         cartRepository.deleteByUser(user);
+        cartViewCache.invalidate(user.getId());
 
         log.info("장바구니 비우기 - 사용자: {}", userEmail);
     }
@@ -181,79 +277,89 @@ public class CartService {
         
         if (!outOfStockItems.isEmpty()) {
             cartRepository.deleteAll(outOfStockItems);
+            cartViewCache.invalidate(user.getId());
             log.info("재고 부족 아이템 제거 - 사용자: {}, 제거된 아이템 수: {}", userEmail, outOfStockItems.size());
         }
     }
 
-    @Transactional
+    // 트랜잭션 경계는 결제 파이프라인(LockRetryTemplate)이 정한다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public OrderResponseDto createOrderFromCartItems(CreateOrderFromCartRequestDto request) {
-        log.info("장바구니에서 주문 생성 시작 - 요청: {}", request);
-        
-        // SecurityContext에서 사용자 이메일 조회
-        String userEmail = SecurityContextUtils.getCurrentUserEmail();
-        log.info("현재 사용자 이메일: {}", userEmail);
-        
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userEmail));
-        log.info("사용자 조회 완료: {}", user.getEmail());
-
-        // 장바구니 아이템 조회
-        List<Cart> cartItems = cartRepository.findByUserOrderByUpdatedAtDesc(user);
-        log.info("장바구니 아이템 조회 완료 - 아이템 수: {}", cartItems.size());
-        
-        if (cartItems.isEmpty()) {
-            log.warn("장바구니가 비어있음 - 사용자: {}", userEmail);
-            throw new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND, "장바구니가 비어있습니다.");
-        }
-
-        // 재고 부족 아이템 확인
-        List<Cart> outOfStockItems = cartRepository.findOutOfStockItemsByUser(user);
-        if (!outOfStockItems.isEmpty()) {
-            throw new BusinessException(ErrorCode.CART_ITEM_OUT_OF_STOCK, "재고가 부족한 상품이 있습니다. 장바구니를 확인해주세요.");
-        }
-
-        // 주문 요청 DTO 생성
-        List<CreateOrderRequestDto.OrderItemRequestDto> orderItems = cartItems.stream()
-                .map(cart -> CreateOrderRequestDto.OrderItemRequestDto.builder()
-                        .productId(cart.getProduct().getId())
-                        .quantity(cart.getQuantity())
-                        .build())
-                .collect(Collectors.toList());
-
-        CreateOrderRequestDto orderRequest = CreateOrderRequestDto.builder()
-                .orderItems(orderItems)
-                .shippingAddress(request.getShippingAddress())
-                .shippingPhone(request.getShippingPhone())
-                .shippingName(request.getShippingName())
-                .build();
-
-        // 주문 생성만 담당 (장바구니 비우기는 별도 처리)
-        log.info("주문 서비스 호출 시작 - 사용자: {}, 주문 아이템 수: {}", userEmail, orderItems.size());
-        OrderResponseDto orderResponse = orderService.createOrder(userEmail, orderRequest);
-        log.info("주문 서비스 호출 완료 - 주문 ID: {}", orderResponse.getOrderId());
+        Long userId = SecurityContextUtils.getCurrentUser().getId();
 
-        log.info("장바구니에서 주문 생성 완료 - 사용자: {}, 주문 ID: {}", userEmail, orderResponse.getOrderId());
+        // 장바구니 조회, 재고 차감, 주문 저장, 장바구니 행 삭제를 한 번에 처리
+        OrderResponseDto orderResponse = cartCheckoutPipeline.checkout(userId, request);
 
+        log.info("장바구니에서 주문 생성 완료 - 사용자 ID: {}, 주문 ID: {}", userId, orderResponse.getOrderId());
         return orderResponse;
     }
 
+    /**
+     * 주문한 상품의 장바구니 행을 제거한다. 주문 시각 이후에 담거나 수량을 바꾼 행과 다른 상품은 그대로 둔다.
+     */
     @Transactional
-    public void clearCartAfterOrder(String userEmail) {
-        // 사용자 조회
+    public void removeOrderedItems(String userEmail, List<Long> productIds, LocalDateTime orderedAt) {
+        if (productIds.isEmpty() || orderedAt == null) {
+            return;
+        }
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userEmail));
 
-        // 장바구니 비우기
-        cartRepository.deleteByUser(user);
+        int removed = cartRepository.deleteOrderedItems(user.getId(), productIds, orderedAt);
+        if (removed > 0) {
+            cartViewCache.invalidate(user.getId());
+        }
 
-        log.info("주문 후 장바구니 비우기 완료 - 사용자: {}", userEmail);
+        log.info("주문 후 장바구니 정리 완료 - 사용자: {}, 제거된 아이템 수: {}", userEmail, removed);
     }
 
-    // @PreAuthorize에서 사용할 장바구니 아이템 소유자 이메일 조회
-    public String getCartItemOwnerEmail(Long cartItemId) {
-        Cart cart = cartRepository.findById(cartItemId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND, "장바구니 아이템을 찾을 수 없습니다: " + cartItemId));
-        return cart.getUser().getEmail();
+    private List<CartLineView> cachedLines(Long userId) {
+        return cartViewCache.get(userId, () -> cartRepository.findLineViewsByUserId(userId));
+    }
+
+    // 키셋 커서보다 뒤에 오는 줄인지 확인 ((updatedAt, id) 내림차순 기준)
+    private boolean isAfter(CartLineView line, KeysetCursor cursor) {
+        int compared = line.updatedAt().compareTo(cursor.at());
+        return compared < 0 || (compared == 0 && line.cartId() < cursor.id());
+    }
+
+    // 일괄 연산 한 건의 입력값, 상품 존재 여부, 소유권을 확인하고 실패 사유를 반환 (통과하면 null)
+    private BusinessException rejectionOf(OperationDto operation, Long userId, Set<Long> existingProductIds,
+                                          Map<Long, Long> ownerIds, Set<Long> touchedCartItemIds) {
+        if (operation.getType() == OperationType.ADD) {
+            if (operation.getProductId() == null || operation.getQuantity() == null) {
+                return new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "ADD 연산에는 productId와 quantity가 필요합니다.");
+            }
+            if (!existingProductIds.contains(operation.getProductId())) {
+                return new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + operation.getProductId());
+            }
+            return null;
+        }
+
+        Long cartItemId = operation.getCartItemId();
+        if (cartItemId == null || (operation.getType() == OperationType.UPDATE && operation.getQuantity() == null)) {
+            return new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    operation.getType() + " 연산에는 cartItemId" + (operation.getType() == OperationType.UPDATE ? "와 quantity가" : "가") + " 필요합니다.");
+        }
+        Long ownerId = ownerIds.get(cartItemId);
+        if (ownerId == null) {
+            return new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND, "장바구니 아이템을 찾을 수 없습니다: " + cartItemId);
+        }
+        if (!ownerId.equals(userId)) {
+            return new BusinessException(ErrorCode.ACCESS_DENIED, "본인의 장바구니 아이템만 변경할 수 있습니다: " + cartItemId);
+        }
+        // 같은 아이템에 대한 수량 변경과 삭제가 섞이면 결과가 모호하므로 첫 연산만 적용
+        if (!touchedCartItemIds.add(cartItemId)) {
+            return new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "같은 장바구니 아이템에 대한 연산이 중복되었습니다: " + cartItemId);
+        }
+        return null;
+    }
+
+    // 변경된 행이 없을 때만 존재 여부를 확인해 404와 403을 구분 (정상 경로에서는 추가 쿼리 없음)
+    private BusinessException cartItemNotAccessible(Long cartItemId) {
+        if (cartRepository.existsById(cartItemId)) {
+            return new BusinessException(ErrorCode.ACCESS_DENIED, "본인의 장바구니 아이템만 변경할 수 있습니다: " + cartItemId);
+        }
+        return new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND, "장바구니 아이템을 찾을 수 없습니다: " + cartItemId);
     }
 }
@@ -0,0 +1,120 @@
+package com.example.commerce_mvp.application.cart;
+
+import com.example.commerce_mvp.application.common.cache.BoundedLruCache;
+import com.example.commerce_mvp.application.product.event.ProductChangedEvent;
+import com.example.commerce_mvp.domain.cart.CartLineView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 장바구니 한 줄 요약 목록을 보관하는 LRU 캐시 (노드 로컬 메모리).
+ * 모든 항목은 적재 직전의 상품 스탬프를 가지며, 포함된 상품의 재고/가격 변경이 그 이후에 커밋되었다면
+ * 해당 항목은 더 이상 사용하지 않는다 (stale). 장바구니 변경은 사용자 항목을 바로 무효화한다.
+ * ttl-ms는 놓친 무효화에 대한 안전장치이다.
+ */
+@Component
+public class CartViewCache {
+
+    private final AtomicLong productClock = new AtomicLong();
+    // 상품별 마지막 변경 스탬프 (상품 수만큼만 커짐)
+    private final Map<Long, Long> productStamps = new ConcurrentHashMap<>();
+    private final BoundedLruCache<Long, Entry> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    // 담긴 상품이 바뀌어 다시 읽은 경우
+    private final Counter staleCounter;
+
+    public CartViewCache(@Value("${commerce.cart.cache.max-size:10000}") int maxSize,
+                         @Value("${commerce.cart.cache.ttl-ms:60000}") long ttlMillis,
+                         MeterRegistry meterRegistry) {
+        this.entries = new BoundedLruCache<>(maxSize, ttlMillis, meterRegistry, "commerce.cart.cache", "장바구니");
+        this.hitCounter = entries.requestCounter("hit");
+        this.missCounter = entries.requestCounter("miss");
+        this.staleCounter = entries.requestCounter("stale");
+    }
+
+    public boolean isEnabled() {
+        return entries.isEnabled();
+    }
+
+    // 유효한 항목이 있으면 그대로, 없으면 loader로 읽어 캐시한 뒤 반환
+    public List<CartLineView> get(Long userId, Supplier<List<CartLineView>> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            if (isFresh(entry)) {
+                hitCounter.increment();
+                return entry.lines();
+            }
+            staleCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+
+        // 스탬프는 조회 전에 잡아야 조회와 겹친 변경이 항상 더 큰 스탬프를 갖는다
+        long stamp = productClock.get();
+        long version = entries.version();
+        List<CartLineView> lines = List.copyOf(loader.get());
+        entries.put(userId, new Entry(stamp, lines), version);
+        return lines;
+    }
+
+    /**
+     * 사용자의 장바구니 항목을 무효화한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화해, 커밋 전 값을 읽어 간 조회가 캐시를 되살리지 못하게 한다.
+     */
+    public void invalidate(Long userId) {
+        if (!isEnabled()) {
+            return;
+        }
+        entries.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    // 재고/가격이 바뀐 상품을 담은 장바구니는 다음 조회에서 다시 읽음 (커밋 이후에만 스탬프를 올림)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        long stamp = productClock.incrementAndGet();
+        event.productIds().forEach(productId -> productStamps.put(productId, stamp));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isFresh(Entry entry) {
+        for (CartLineView line : entry.lines()) {
+            if (productStamps.getOrDefault(line.productId(), 0L) > entry.stamp()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Entry(long stamp, List<CartLineView> lines) {
+    }
+}
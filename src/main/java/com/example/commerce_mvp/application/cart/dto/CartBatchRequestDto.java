@@ -0,0 +1,47 @@
+package com.example.commerce_mvp.application.cart.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartBatchRequestDto {
+
+    @NotEmpty(message = "장바구니 연산 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100개의 연산만 처리할 수 있습니다.")
+    @Valid
+    private List<OperationDto> operations;
+
+    public enum OperationType {
+        ADD,    // productId, quantity - 없으면 추가, 있으면 수량 증가
+        UPDATE, // cartItemId, quantity - 수량 변경
+        REMOVE  // cartItemId - 삭제
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class OperationDto {
+        @NotNull(message = "연산 종류는 필수입니다.")
+        private OperationType type;
+
+        private Long productId;
+
+        private Long cartItemId;
+
+        @Min(value = 1, message = "수량은 1개 이상이어야 합니다.")
+        private Integer quantity;
+    }
+}
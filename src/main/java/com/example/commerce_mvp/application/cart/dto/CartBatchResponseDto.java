@@ -0,0 +1,61 @@
+package com.example.commerce_mvp.application.cart.dto;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartBatchResponseDto {
+    private int appliedCount;
+    private int failedCount;
+    private List<LineResultDto> results;
+
+    public static CartBatchResponseDto of(List<LineResultDto> results) {
+        int applied = (int) results.stream().filter(LineResultDto::isApplied).count();
+        return CartBatchResponseDto.builder()
+                .appliedCount(applied)
+                .failedCount(results.size() - applied)
+                .results(results)
+                .build();
+    }
+
+    // 요청 연산 순서(index)대로 한 줄씩 결과를 담는다
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class LineResultDto {
+        private int index;
+        private CartBatchRequestDto.OperationType type;
+        private boolean applied;
+        private String errorCode;
+        private String message;
+        private CartItemResponseDto item;
+
+        public static LineResultDto applied(int index, CartBatchRequestDto.OperationType type, CartItemResponseDto item) {
+            return LineResultDto.builder()
+                    .index(index)
+                    .type(type)
+                    .applied(true)
+                    .item(item)
+                    .build();
+        }
+
+        public static LineResultDto failed(int index, CartBatchRequestDto.OperationType type, BusinessException e) {
+            return LineResultDto.builder()
+                    .index(index)
+                    .type(type)
+                    .applied(false)
+                    .errorCode(e.getErrorCode().getCode())
+                    .message(e.getMessage())
+                    .build();
+        }
+    }
+}
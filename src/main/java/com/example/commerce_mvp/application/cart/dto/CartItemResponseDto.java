@@ -1,6 +1,6 @@
 package com.example.commerce_mvp.application.cart.dto;
 
-import com.example.commerce_mvp.domain.cart.Cart;
+import com.example.commerce_mvp.domain.cart.CartLineView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,18 +24,19 @@ public class CartItemResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static CartItemResponseDto from(Cart cart) {
+    // 분할 재고까지 합산한 재고 여유는 CartRepository.AVAILABLE_STOCK로 계산된 CartLineView에서만 가져온다
+    public static CartItemResponseDto from(CartLineView line) {
         return CartItemResponseDto.builder()
-                .cartId(cart.getId())
-                .productId(cart.getProduct().getId())
-                .productName(cart.getProduct().getName())
-                .productPrice(cart.getProduct().getPrice())
-                .productImageUrl(cart.getProduct().getImageUrl())
-                .quantity(cart.getQuantity())
-                .totalPrice(cart.getTotalPrice())
-                .isStockAvailable(cart.isStockAvailable())
-                .createdAt(cart.getCreatedAt())
-                .updatedAt(cart.getUpdatedAt())
+                .cartId(line.cartId())
+                .productId(line.productId())
+                .productName(line.productName())
+                .productPrice(line.productPrice())
+                .productImageUrl(line.productImageUrl())
+                .quantity(line.quantity())
+                .totalPrice(line.totalPrice())
+                .isStockAvailable(line.isStockAvailable())
+                .createdAt(line.createdAt())
+                .updatedAt(line.updatedAt())
                 .build();
     }
 }
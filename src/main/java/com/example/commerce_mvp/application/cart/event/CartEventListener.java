@@ -2,35 +2,39 @@ package com.example.commerce_mvp.application.cart.event;
 
 import com.example.commerce_mvp.application.cart.CartService;
 import com.example.commerce_mvp.application.order.event.OrderCreatedEvent;
+import com.example.commerce_mvp.domain.outbox.ProcessedEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CartEventListener {
 
+    private static final String CONSUMER = "cart-clear-after-order";
+
     private final CartService cartService;
+    private final ProcessedEventRepository processedEventRepository;
 
-    @Async
+    // 아웃박스 릴레이가 커밋된 주문 이벤트만 전달하며, 실패하면 예외를 그대로 던져 릴레이가 재시도하게 한다
     @EventListener
+    @Transactional
     public void handleOrderCreated(OrderCreatedEvent event) {
-        try {
-            log.info("주문 완료 이벤트 수신 - 주문 ID: {}, 사용자: {}, 총 금액: {}", 
-                    event.getOrderId(), event.getUserEmail(), event.getTotalAmount());
-            
-            // 장바구니 비우기
-            cartService.clearCartAfterOrder(event.getUserEmail());
-            
-            log.info("주문 완료 후 장바구니 비우기 성공 - 사용자: {}", event.getUserEmail());
-            
-        } catch (Exception e) {
-            log.error("주문 완료 후 장바구니 비우기 실패 - 사용자: {}, 에러: {}", 
-                    event.getUserEmail(), e.getMessage(), e);
-            // 장바구니 비우기 실패해도 주문에는 영향 없음
+        log.info("주문 완료 이벤트 수신 - 주문 ID: {}, 사용자: {}, 총 금액: {}", 
+                event.getOrderId(), event.getUserEmail(), event.getTotalAmount());
+
+        // 같은 이벤트가 다시 전달된 경우 무시 (최소 한 번 전달), 처리 기록은 이 트랜잭션과 함께 커밋/롤백된다
+        if (!processedEventRepository.markProcessed(CONSUMER, event.getEventId())) {
+            log.info("이미 처리된 주문 완료 이벤트 - 이벤트 ID: {}", event.getEventId());
+            return;
         }
+
+        // 주문한 상품의 장바구니 행만 제거 (장바구니 결제는 같은 트랜잭션에서 이미 삭제했으므로 대개 지울 행이 없음)
+        cartService.removeOrderedItems(event.getUserEmail(), event.getProductIds(), event.getOrderedAt());
+
+        log.info("주문 완료 후 장바구니 정리 성공 - 사용자: {}", event.getUserEmail());
     }
 }
@@ -0,0 +1,166 @@
+package com.example.commerce_mvp.application.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 크기가 제한된 노드 로컬 LRU 캐시. 항목마다 만료 시각을 가지며 maxSize가 0 이하이면 아무것도 보관하지 않는다.
+ *
+ * 조회 결과는 조회 직전에 잡은 version()과 함께 put한다. 그 사이에 같은 키가 invalidate되었거나
+ * invalidateIf로 여러 항목이 한꺼번에 무효화되었다면 put은 무시되어, 무효화와 겹친 조회가 오래된 값을 되살리지 못한다.
+ * invalidate는 값 없이 버전만 남긴 항목(무효화 표시)을 남기므로 이 표시도 용량을 차지한다.
+ */
+public final class BoundedLruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<K, Slot<V>> entries;
+    // 이 버전보다 먼저 시작된 조회 결과는 키와 상관없이 버림 (invalidateIf, 밀려난 무효화 표시)
+    private long floor;
+    private final String metricPrefix;
+    private final String itemName;
+    private final MeterRegistry meterRegistry;
+    private final Counter evictionCounter;
+
+    // 메트릭 없이 사용
+    public BoundedLruCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, null, null, null);
+    }
+
+    /**
+     * metricPrefix.evictions, metricPrefix.size를 등록한다. 조회 결과별 카운터는 requestCounter로 만든다.
+     */
+    public BoundedLruCache(int maxSize, long ttlMillis, MeterRegistry meterRegistry, String metricPrefix, String itemName) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.meterRegistry = meterRegistry;
+        this.metricPrefix = metricPrefix;
+        this.itemName = itemName;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Slot<V>> eldest) {
+                if (size() <= BoundedLruCache.this.maxSize) {
+                    return false;
+                }
+                if (eldest.getValue().value() == null) {
+                    // 표시가 사라져도 그 이전에 시작된 조회는 계속 막아야 함
+                    floor = Math.max(floor, eldest.getValue().version());
+                }
+                if (evictionCounter != null) {
+                    evictionCounter.increment();
+                }
+                return true;
+            }
+        };
+        if (meterRegistry == null) {
+            this.evictionCounter = null;
+            return;
+        }
+        this.evictionCounter = Counter.builder(metricPrefix + ".evictions")
+                .description("용량 초과로 밀려난 " + itemName + " 수")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".size", this, BoundedLruCache::size)
+                .description("캐시된 " + itemName + " 수 (무효화 표시 포함)")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    // metricPrefix.requests{result}
+    public Counter requestCounter(String result) {
+        if (meterRegistry == null) {
+            throw new IllegalStateException("메트릭 없이 만든 캐시입니다.");
+        }
+        return Counter.builder(metricPrefix + ".requests")
+                .description(itemName + " 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 조회를 시작하기 직전에 잡아 put에 넘긴다
+    public long version() {
+        return clock.get();
+    }
+
+    // 만료되지 않은 값 (없거나 무효화되었으면 null)
+    public V get(K key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        synchronized (entries) {
+            Slot<V> slot = entries.get(key);
+            if (slot == null || slot.value() == null) {
+                return null;
+            }
+            if (slot.expiresAt() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return slot.value();
+        }
+    }
+
+    public boolean put(K key, V value, long version) {
+        return put(key, value, version, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * version 이후에 무효화가 없었을 때만 넣는다. expiresAt은 ttl보다 일찍 만료시킬 때 사용한다.
+     */
+    public boolean put(K key, V value, long version, long expiresAt) {
+        if (!isEnabled()) {
+            return false;
+        }
+        synchronized (entries) {
+            if (version < floor) {
+                return false;
+            }
+            Slot<V> current = entries.get(key);
+            // 무효화 표시나 더 나중에 시작된 조회 결과는 덮어쓰지 않음
+            if (current != null && current.version() > version) {
+                return false;
+            }
+            entries.put(key, new Slot<>(value, version, expiresAt));
+            return true;
+        }
+    }
+
+    public void invalidate(K key) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Slot<>(null, clock.incrementAndGet(), Long.MAX_VALUE));
+        }
+    }
+
+    // 조건에 맞는 값을 모두 제거하고, 진행 중인 조회 결과는 키와 상관없이 버린다
+    public void invalidateIf(Predicate<? super V> predicate) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (entries) {
+            floor = clock.incrementAndGet();
+            entries.values().removeIf(slot -> slot.value() != null && predicate.test(slot.value()));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // value가 null이면 무효화 표시
+    private record Slot<V>(V value, long version, long expiresAt) {
+    }
+}
@@ -8,9 +8,10 @@ import java.util.List;
 public class SliceResponse<T> {
     private final List<T> content;
     private final boolean hasNext;
-    private final Long nextCursor;
+    // 다음 페이지 요청 시 그대로 돌려주는 커서 (클라이언트는 내용을 해석하지 않음)
+    private final String nextCursor;
 
-    public SliceResponse(List<T> content, boolean hasNext, Long nextCursor){
+    public SliceResponse(List<T> content, boolean hasNext, String nextCursor){
         this.content = content;
         this.hasNext = hasNext;
         this.nextCursor = nextCursor;
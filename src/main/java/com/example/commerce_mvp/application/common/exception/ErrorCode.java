@@ -18,10 +18,15 @@ public enum ErrorCode {
     // 주문 관련 에러
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER_001", "주문을 찾을 수 없습니다."),
     INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "ORDER_002", "잘못된 주문 상태입니다."),
+    ORDER_LOCK_CONFLICT(HttpStatus.CONFLICT, "ORDER_003", "주문이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    ORDER_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "ORDER_004", "주문 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    ORDER_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER_005", "주문 티켓을 찾을 수 없습니다."),
+    ORDER_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "ORDER_006", "주문 처리 결과를 기다리는 시간이 초과되었습니다. 주문 내역을 확인해주세요."),
     
     // 장바구니 관련 에러
     CART_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "CART_001", "장바구니 아이템을 찾을 수 없습니다."),
     CART_ITEM_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "CART_002", "재고가 부족한 상품이 장바구니에 있습니다."),
+    CART_BATCH_CONFLICT(HttpStatus.CONFLICT, "CART_003", "장바구니가 동시에 변경되어 처리하지 못했습니다. 다시 시도해주세요."),
     
     // 공통 에러
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON_001", "입력값이 올바르지 않습니다."),
@@ -0,0 +1,38 @@
+package com.example.commerce_mvp.application.common.util;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 카테고리 목록의 (category2, id) 키셋 페이지네이션 커서.
+ * 카테고리 이름에 구분자가 들어갈 수 있으므로 id를 앞에 두고 첫 번째 구분자로 나눈다.
+ */
+public record CategoryCursor(String category2, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = id + SEPARATOR + category2;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지 (null 반환)
+    public static CategoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("구분자가 없습니다.");
+            }
+            return new CategoryCursor(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.commerce_mvp.application.common.util;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (시각, id) 키셋 페이지네이션 커서.
+ * 클라이언트에는 내부 형식을 드러내지 않도록 Base64URL로 인코딩한 문자열로만 전달한다.
+ */
+public record KeysetCursor(LocalDateTime at, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = at + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지 (null 반환)
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("구분자가 없습니다.");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.commerce_mvp.application.order;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.inventory.InventoryStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 락 경합(데드락, 락 대기 시간 초과)으로 실패한 트랜잭션을 새 트랜잭션으로 재시도한다.
+ * 재시도 사이에는 지수 백오프에 지터를 섞어 같은 상품을 노리는 요청들이 다시 충돌하지 않도록 한다.
+ * 재시도/데드락/최종 실패 횟수는 재고 전략 이름을 태그로 Micrometer 카운터에 기록한다.
+ */
+@Slf4j
+@Component
+public class LockRetryTemplate {
+
+    // MySQL 데드락 에러 코드 / 표준 SQLState (serialization failure)
+    private static final int MYSQL_DEADLOCK_ERROR_CODE = 1213;
+    private static final String DEADLOCK_SQL_STATE = "40001";
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final Counter retryCounter;
+    private final Counter deadlockCounter;
+    private final Counter exhaustedCounter;
+
+    public LockRetryTemplate(PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             InventoryStrategy inventoryStrategy,
+                             @Value("${commerce.order.lock-retry.max-attempts:3}") int maxAttempts,
+                             @Value("${commerce.order.lock-retry.backoff-ms:50}") long backoffMillis,
+                             @Value("${commerce.order.lock-retry.max-backoff-ms:500}") long maxBackoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        String strategy = inventoryStrategy.name();
+        this.retryCounter = Counter.builder("commerce.order.lock.retries")
+                .description("락 경합으로 주문 트랜잭션을 재시도한 횟수")
+                .tag("strategy", strategy)
+                .register(meterRegistry);
+        this.deadlockCounter = Counter.builder("commerce.order.lock.deadlocks")
+                .description("주문 트랜잭션에서 발생한 데드락 횟수")
+                .tag("strategy", strategy)
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("commerce.order.lock.exhausted")
+                .description("재시도 횟수를 모두 사용하고 실패한 주문 수")
+                .tag("strategy", strategy)
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        // 이미 바깥 트랜잭션에 참여 중이면 롤백 전용이 된 트랜잭션을 재사용할 수 없으므로 재시도하지 않음
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (PessimisticLockingFailureException e) {
+                boolean deadlock = isDeadlock(e);
+                if (deadlock) {
+                    deadlockCounter.increment();
+                }
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    log.warn("락 경합으로 주문 처리 실패 - 시도 횟수: {}, 데드락: {}", attempt, deadlock);
+                    throw new BusinessException(ErrorCode.ORDER_LOCK_CONFLICT);
+                }
+                retryCounter.increment();
+                log.info("락 경합으로 주문 재시도 - 시도 횟수: {}, 데드락: {}", attempt, deadlock);
+                sleep(backoff(attempt));
+            }
+        }
+    }
+
+    // full jitter: 0 ~ min(max, base * 2^(attempt-1)) 사이의 임의 시간
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt - 1, 20));
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.ORDER_LOCK_CONFLICT);
+        }
+    }
+
+    private boolean isDeadlock(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == MYSQL_DEADLOCK_ERROR_CODE
+                    || DEADLOCK_SQL_STATE.equals(sqlException.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.commerce_mvp.application.order;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
+import com.example.commerce_mvp.application.order.inventory.InventoryStrategy;
+import com.example.commerce_mvp.domain.order.Order;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 같은 상품에 몰리는 주문을 짧은 구간(window-ms) 또는 최대 건수(max-batch-size)만큼 모아 한 트랜잭션으로 커밋한다.
+ * 주문마다 세이브포인트를 두므로 한 주문이 실패해도 같은 배치의 다른 주문은 그대로 커밋되고,
+ * 각 호출자는 자신의 결과 또는 예외를 받는다. 행 잠금과 커밋을 배치 단위로 한 번씩만 치르는 대신
+ * 호출자는 최대 window-ms만큼 더 기다린다.
+ * 호출자는 submit-timeout-ms까지만 기다리며, 처리 스레드가 멈추면 대기 중인 주문을 실패로 돌려주고
+ * 이후 주문은 그룹 커밋 없이 처리되도록 비활성화된다.
+ */
+@Slf4j
+@Component
+public class OrderGroupCommitter {
+
+    private final OrderPlacer orderPlacer;
+    private final LockRetryTemplate lockRetryTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate savepointTemplate;
+    private final DistributionSummary batchSizeSummary;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final long submitTimeoutMillis;
+    private final BlockingQueue<PendingOrder> queue;
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public OrderGroupCommitter(OrderPlacer orderPlacer,
+                               LockRetryTemplate lockRetryTemplate,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               InventoryStrategy inventoryStrategy,
+                               @Value("${commerce.order.group-commit.enabled:false}") boolean enabled,
+                               @Value("${commerce.order.group-commit.max-batch-size:64}") int maxBatchSize,
+                               @Value("${commerce.order.group-commit.window-ms:5}") long windowMillis,
+                               @Value("${commerce.order.group-commit.queue-capacity:1024}") int queueCapacity,
+                               @Value("${commerce.order.group-commit.submit-timeout-ms:10000}") long submitTimeoutMillis) {
+        this.orderPlacer = orderPlacer;
+        this.lockRetryTemplate = lockRetryTemplate;
+        this.entityManager = entityManager;
+        // 배치 트랜잭션 안에서 주문마다 세이브포인트를 만든다
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.batchSizeSummary = DistributionSummary.builder("commerce.order.group-commit.batch-size")
+                .description("한 트랜잭션으로 커밋된 주문 수")
+                .register(meterRegistry);
+        // 메모리 예약 엔진은 세이브포인트 롤백을 알 수 없고 행 잠금도 없으므로 그룹 커밋을 쓰지 않음
+        if (enabled && "reservation-engine".equals(inventoryStrategy.name())) {
+            log.warn("reservation-engine 재고 전략에서는 그룹 커밋을 사용하지 않습니다.");
+            enabled = false;
+        }
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.submitTimeoutMillis = submitTimeoutMillis;
+    }
+
+    // 처리 스레드가 멈췄거나 종료 중이면 false (호출하는 쪽은 주문을 직접 처리)
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "order-group-commit");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (dispatcher == null) {
+            return;
+        }
+        // 진행 중인 배치와 이미 받은 주문을 마저 처리하도록 인터럽트하지 않고 기다림
+        dispatcher.join(submitTimeoutMillis);
+        if (dispatcher.isAlive()) {
+            log.warn("그룹 커밋 처리가 종료 대기 시간 안에 끝나지 않았습니다. 남은 주문 수: {}", queue.size());
+        }
+    }
+
+    // 주문을 배치 대기열에 넣고 결과가 나올 때까지 기다림 (최대 submit-timeout-ms)
+    public OrderResponseDto submit(String userEmail, CreateOrderRequestDto request) {
+        PendingOrder pending = new PendingOrder(userEmail, request, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new BusinessException(ErrorCode.ORDER_QUEUE_FULL);
+        }
+        // 넣는 사이에 처리 스레드가 멈췄으면 아무도 꺼내지 않으므로 바로 실패
+        if (!running && queue.remove(pending)) {
+            throw new BusinessException(ErrorCode.ORDER_QUEUE_FULL, "주문 처리기가 중지되어 주문을 처리하지 못했습니다.");
+        }
+        try {
+            return pending.future().get(submitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 배치에 들어가지 않았으면 빼내서 처리되지 않게 하고, 이미 처리 중이면 결과를 알 수 없음
+            if (queue.remove(pending)) {
+                throw new BusinessException(ErrorCode.ORDER_TIMEOUT, "주문 대기 시간이 초과되어 주문을 처리하지 않았습니다.");
+            }
+            throw new BusinessException(ErrorCode.ORDER_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.ORDER_TIMEOUT);
+        }
+    }
+
+    private void dispatchLoop() {
+        try {
+            // 종료 요청 이후에도 이미 대기열에 들어온 주문은 처리
+            while (running || !queue.isEmpty()) {
+                List<PendingOrder> batch = nextBatch();
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                try {
+                    processBatch(batch);
+                } catch (RuntimeException e) {
+                    log.error("그룹 커밋 처리 중 예상하지 못한 오류", e);
+                    failAll(batch, e);
+                } catch (Error e) {
+                    failAll(batch, e);
+                    throw e;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Error e) {
+            log.error("그룹 커밋 처리 스레드가 중지되었습니다. 이후 주문은 그룹 커밋 없이 처리됩니다.", e);
+            throw e;
+        } finally {
+            running = false;
+            // 남은 주문은 호출자에게 실패로 알림
+            List<PendingOrder> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            failAll(remaining, new BusinessException(ErrorCode.ORDER_QUEUE_FULL, "주문 처리기가 중지되어 주문을 처리하지 못했습니다."));
+        }
+    }
+
+    // 첫 주문을 기다린 뒤 window-ms 동안 max-batch-size까지 모음 (대기열이 비어 있으면 빈 목록)
+    private List<PendingOrder> nextBatch() throws InterruptedException {
+        PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingOrder next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private static void failAll(List<PendingOrder> batch, Throwable failure) {
+        batch.forEach(pending -> pending.future().completeExceptionally(failure));
+    }
+
+    // 배치 전체를 한 트랜잭션으로 처리하고 커밋 후 각 호출자의 결과를 완료
+    void processBatch(List<PendingOrder> batch) {
+        List<Outcome> outcomes;
+        try {
+            outcomes = lockRetryTemplate.execute(() -> placeAll(batch));
+        } catch (RuntimeException e) {
+            // 배치 트랜잭션 자체가 실패하면 (재시도 소진, 커밋 실패) 모든 호출자에게 실패를 전달
+            failAll(batch, e);
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+
+        for (Outcome outcome : outcomes) {
+            if (outcome.failure() != null) {
+                outcome.pending().future().completeExceptionally(outcome.failure());
+                continue;
+            }
+            outcome.pending().future().complete(outcome.response());
+        }
+        log.info("주문 그룹 커밋 완료 - 배치 크기: {}, 성공: {}", batch.size(),
+                outcomes.stream().filter(outcome -> outcome.failure() == null).count());
+    }
+
+    private List<Outcome> placeAll(List<PendingOrder> batch) {
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        for (PendingOrder pending : batch) {
+            try {
+                OrderResponseDto response = savepointTemplate.execute(status -> {
+                    Order savedOrder = orderPlacer.place(pending.userEmail(), pending.request());
+                    // 이 주문의 변경 사항을 세이브포인트 안에서 반영해 실패를 이 주문에 한정
+                    flush();
+                    return OrderResponseDto.from(savedOrder);
+                });
+                outcomes.add(new Outcome(pending, response, null));
+            } catch (PessimisticLockingFailureException e) {
+                // 데드락은 트랜잭션 전체를 롤백하므로 배치 단위로 재시도
+                throw e;
+            } catch (RuntimeException e) {
+                // 세이브포인트로 DB는 되돌아갔지만 영속성 컨텍스트에는 실패한 주문의 변경(재고 차감 등)이 남아 있으므로 비움.
+                // 앞선 주문은 세이브포인트 안에서 이미 flush하고 응답까지 만들었으므로 분리되어도 영향이 없고,
+                // 다음 주문은 상품을 DB에서 다시 읽는다
+                entityManager.clear();
+                outcomes.add(new Outcome(pending, null, e));
+            }
+        }
+        return outcomes;
+    }
+
+    // EntityManager 직접 호출은 예외 변환을 거치지 않으므로 락 실패가 재시도 대상이 되도록 변환
+    private void flush() {
+        try {
+            entityManager.flush();
+        } catch (RuntimeException e) {
+            DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+    }
+
+    record PendingOrder(String userEmail, CreateOrderRequestDto request, CompletableFuture<OrderResponseDto> future) {
+    }
+
+    private record Outcome(PendingOrder pending, OrderResponseDto response, RuntimeException failure) {
+    }
+}
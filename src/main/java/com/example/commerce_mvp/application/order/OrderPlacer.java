@@ -0,0 +1,60 @@
+package com.example.commerce_mvp.application.order;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.order.event.OrderEventOutbox;
+import com.example.commerce_mvp.application.order.inventory.InventoryStrategy;
+import com.example.commerce_mvp.application.product.event.ProductChangedEvent;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.order.OrderRepository;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 한 건을 현재 트랜잭션 안에서 생성한다 (사용자 조회 → 재고 차감 → 주문 저장 → 아웃박스 기록 → 상품 변경 알림).
+ * 트랜잭션 경계는 호출하는 쪽(단건 주문, 그룹 커밋)이 정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPlacer {
+
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final InventoryStrategy inventoryStrategy;
+    private final OrderEventOutbox orderEventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Order place(String userEmail, CreateOrderRequestDto request) {
+        // 사용자 조회
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userEmail));
+        return place(user, request);
+    }
+
+    // 이미 조회한 사용자로 주문 생성 (장바구니 결제처럼 호출하는 쪽이 사용자를 가지고 있는 경우)
+    public Order place(User user, CreateOrderRequestDto request) {
+        // 주문 생성 (도메인 팩토리 메서드 사용)
+        Order order = Order.createOrder(user, request.getShippingAddress(),
+                request.getShippingPhone(), request.getShippingName());
+
+        // 주문 아이템 생성 및 재고 차감 (설정된 재고 전략 사용)
+        inventoryStrategy.allocate(order, request.getOrderItems());
+
+        // 총 금액 계산
+        order.calculateTotalAmount();
+
+        // 주문 저장
+        Order savedOrder = orderRepository.save(order);
+
+        // 주문 생성 완료 이벤트를 같은 트랜잭션에서 아웃박스에 기록 (전달은 커밋 이후 릴레이가 담당)
+        orderEventOutbox.orderCreated(savedOrder);
+
+        // 재고가 바뀐 상품을 알림 (커밋 이후 장바구니 캐시 등이 반영)
+        eventPublisher.publishEvent(ProductChangedEvent.of(savedOrder.getProductIds()));
+        return savedOrder;
+    }
+}
@@ -4,27 +4,26 @@ import com.example.commerce_mvp.application.common.dto.SliceResponse;
 import com.example.commerce_mvp.application.common.exception.BusinessException;
 import com.example.commerce_mvp.application.common.exception.ErrorCode;
 import com.example.commerce_mvp.application.common.util.AuthorizationUtils;
+import com.example.commerce_mvp.application.common.util.KeysetCursor;
 import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
 import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
-import com.example.commerce_mvp.application.order.event.OrderCreatedEvent;
+import com.example.commerce_mvp.application.order.inventory.InventoryStrategy;
+import com.example.commerce_mvp.application.product.event.ProductChangedEvent;
 import com.example.commerce_mvp.domain.order.Order;
-import com.example.commerce_mvp.domain.order.OrderItem;
 import com.example.commerce_mvp.domain.order.OrderRepository;
 import com.example.commerce_mvp.domain.order.OrderStatus;
-import com.example.commerce_mvp.domain.product.Product;
-import com.example.commerce_mvp.domain.product.ProductRepository;
 import com.example.commerce_mvp.domain.user.User;
 import com.example.commerce_mvp.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,61 +33,32 @@ import java.util.stream.Collectors;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final InventoryStrategy inventoryStrategy;
+    private final LockRetryTemplate lockRetryTemplate;
+    private final OrderPlacer orderPlacer;
+    private final OrderGroupCommitter orderGroupCommitter;
     private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    // 트랜잭션 경계는 LockRetryTemplate(또는 그룹 커밋)이 정한다 (바깥 트랜잭션이 있으면 그대로 참여)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public OrderResponseDto createOrder(String userEmail, CreateOrderRequestDto request) {
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userEmail));
-
-        // 주문 생성 (도메인 팩토리 메서드 사용)
-        Order order = Order.createOrder(user, request.getShippingAddress(), 
-                request.getShippingPhone(), request.getShippingName());
-
-        // 상품 ID 목록 추출
-        List<Long> productIds = request.getOrderItems().stream()
-                .map(CreateOrderRequestDto.OrderItemRequestDto::getProductId)
-                .collect(Collectors.toList());
-
-        // 동시성 제어를 위해 상품들을 Lock으로 조회
-        List<Product> products = productRepository.findByIdsWithLock(productIds);
-        Map<Long, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getId, product -> product));
-
-        // 주문 아이템 생성 및 재고 확인 (도메인 로직 사용)
-        for (CreateOrderRequestDto.OrderItemRequestDto itemRequest : request.getOrderItems()) {
-            Product product = productMap.get(itemRequest.getProductId());
-            if (product == null) {
-                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + itemRequest.getProductId());
-            }
-
-            // OrderItem 생성 (도메인 팩토리 메서드 사용)
-            OrderItem orderItem = OrderItem.createOrderItem(product, itemRequest.getQuantity());
-            
-            // 주문 아이템 추가 및 재고 확인/차감 (도메인 로직 사용)
-            order.addOrderItemWithStockCheck(orderItem);
+        // 그룹 커밋 모드: 짧은 구간에 모인 주문들을 한 트랜잭션으로 처리
+        if (orderGroupCommitter.isEnabled() && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return orderGroupCommitter.submit(userEmail, request);
         }
+        return lockRetryTemplate.execute(() -> {
+            Order savedOrder = orderPlacer.place(userEmail, request);
 
-        // 총 금액 계산
-        order.calculateTotalAmount();
-
-        // 주문 저장
-        Order savedOrder = orderRepository.save(order);
+            log.info("주문 생성 완료 - 주문 ID: {}, 사용자: {}, 총 금액: {}",
+                    savedOrder.getId(), userEmail, savedOrder.getTotalAmount());
 
-        // 주문 생성 완료 이벤트 발행
-        eventPublisher.publishEvent(new OrderCreatedEvent(this, savedOrder.getId(), userEmail, savedOrder.getTotalAmount()));
-
-        log.info("주문 생성 완료 - 주문 ID: {}, 사용자: {}, 총 금액: {}", 
-                savedOrder.getId(), userEmail, savedOrder.getTotalAmount());
-
-        return OrderResponseDto.from(savedOrder);
+            return OrderResponseDto.from(savedOrder);
+        });
     }
 
     public OrderResponseDto getOrder(Long orderId, String userEmail) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithItemsById(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND, "주문을 찾을 수 없습니다: " + orderId));
 
         // 권한 확인 (도메인 로직 사용)
@@ -100,23 +70,34 @@ public class OrderService {
         return OrderResponseDto.from(order);
     }
 
-    public SliceResponse<OrderResponseDto> getMyOrders(String userEmail, int page, int size) {
+    public SliceResponse<OrderResponseDto> getMyOrders(String userEmail, String cursor, int size) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + userEmail));
 
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Slice<Order> orderSlice = orderRepository.findByUserOrderByOrderDateDesc(user, pageRequest);
+        // 한 건 더 조회해서 다음 페이지 여부 판단 (count 쿼리 없음)
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Order> orders = after == null
+                ? orderRepository.findFirstPageByUser(user, limit)
+                : orderRepository.findPageByUserAfter(user, after.at(), after.id(), limit);
 
-        List<OrderResponseDto> content = orderSlice.getContent().stream()
+        boolean hasNext = orders.size() > size;
+        List<Order> page = hasNext ? orders.subList(0, size) : orders;
+        List<OrderResponseDto> content = page.stream()
                 .map(OrderResponseDto::from)
                 .collect(Collectors.toList());
 
-        return new SliceResponse<>(content, orderSlice.hasNext(), null);
+        String nextCursor = null;
+        if (hasNext) {
+            Order last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getOrderDate(), last.getId()).encode();
+        }
+        return new SliceResponse<>(content, hasNext, nextCursor);
     }
 
     @Transactional
     public OrderResponseDto cancelOrder(Long orderId, String userEmail) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithItemsById(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND, "주문을 찾을 수 없습니다: " + orderId));
 
         // 권한 확인
@@ -127,7 +108,9 @@ public class OrderService {
 
         // 주문 취소 (도메인 로직 사용)
         order.cancel();
-        
+        inventoryStrategy.release(order);
+        eventPublisher.publishEvent(ProductChangedEvent.of(order.getProductIds()));
+
         // 변경사항 저장
         Order savedOrder = orderRepository.save(order);
 
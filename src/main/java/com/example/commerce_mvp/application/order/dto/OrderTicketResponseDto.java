@@ -0,0 +1,36 @@
+package com.example.commerce_mvp.application.order.dto;
+
+import com.example.commerce_mvp.application.order.ticket.OrderTicket;
+import com.example.commerce_mvp.application.order.ticket.OrderTicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderTicketResponseDto {
+    private String ticketId;
+    private OrderTicketStatus status;
+    private Long orderId;
+    private String errorCode;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static OrderTicketResponseDto from(OrderTicket ticket) {
+        return OrderTicketResponseDto.builder()
+                .ticketId(ticket.getTicketId())
+                .status(ticket.getStatus())
+                .orderId(ticket.getOrderId())
+                .errorCode(ticket.getErrorCode() != null ? ticket.getErrorCode().getCode() : null)
+                .message(ticket.getMessage())
+                .createdAt(ticket.getCreatedAt())
+                .updatedAt(ticket.getUpdatedAt())
+                .build();
+    }
+}
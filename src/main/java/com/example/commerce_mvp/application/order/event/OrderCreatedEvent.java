@@ -3,17 +3,36 @@ package com.example.commerce_mvp.application.order.event;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Getter
 public class OrderCreatedEvent extends ApplicationEvent {
-    
+
+    // 아웃박스에 기록되는 이벤트 타입
+    public static final String TYPE = "ORDER_CREATED";
+
+    // 아웃박스 이벤트 ID (소비자가 중복 전달을 걸러내는 키)
+    private final Long eventId;
     private final Long orderId;
     private final String userEmail;
     private final int totalAmount;
-    
-    public OrderCreatedEvent(Object source, Long orderId, String userEmail, int totalAmount) {
+    // 주문한 상품 ID (장바구니에서 이 상품들만 정리)
+    private final List<Long> productIds;
+    private final LocalDateTime orderedAt;
+
+    public OrderCreatedEvent(Object source, Long eventId, Long orderId, String userEmail, int totalAmount,
+                             List<Long> productIds, LocalDateTime orderedAt) {
         super(source);
+        this.eventId = eventId;
         this.orderId = orderId;
         this.userEmail = userEmail;
         this.totalAmount = totalAmount;
+        this.productIds = productIds == null ? List.of() : productIds;
+        this.orderedAt = orderedAt;
+    }
+
+    // 아웃박스 payload로 직렬화되는 내용 (productIds, orderedAt이 없는 이전 기록은 장바구니를 정리하지 않음)
+    public record Payload(Long orderId, String userEmail, int totalAmount, List<Long> productIds, LocalDateTime orderedAt) {
     }
 }
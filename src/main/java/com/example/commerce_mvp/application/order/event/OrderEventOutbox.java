@@ -0,0 +1,42 @@
+package com.example.commerce_mvp.application.order.event;
+
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.outbox.OutboxEvent;
+import com.example.commerce_mvp.domain.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 이벤트를 아웃박스 테이블에 기록한다.
+ * 주문과 같은 트랜잭션에서만 호출되므로 주문이 롤백되면 이벤트도 함께 사라지고,
+ * 실제 전달은 OrderEventRelay가 커밋 이후에 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderCreated(Order order) {
+        OrderCreatedEvent.Payload payload = new OrderCreatedEvent.Payload(
+                order.getId(), order.getUser().getEmail(), order.getTotalAmount(), order.getProductIds(), order.getOrderDate());
+        OutboxEvent outboxEvent = outboxEventRepository.save(OutboxEvent.of(OrderCreatedEvent.TYPE, order.getId(), toJson(payload)));
+        eventPublisher.publishEvent(new OutboxEventRecordedEvent(outboxEvent.getId()));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.commerce_mvp.application.order.event;
+
+import com.example.commerce_mvp.config.DomainEventExecutorConfig;
+import com.example.commerce_mvp.domain.outbox.OutboxEvent;
+import com.example.commerce_mvp.domain.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스에 쌓인 주문 이벤트를 batch-size씩 읽어 ApplicationEventPublisher로 전달한다.
+ * 한 배치를 한 트랜잭션으로 전달하고 발행 완료 표시를 UPDATE 한 번으로 남기며,
+ * 배치는 SELECT ... FOR UPDATE SKIP LOCKED로 가져오므로 여러 노드가 동시에 돌아도 같은 이벤트를 나눠 갖지 않는다.
+ * 배치 중 하나라도 실패하면 그 배치는 이벤트 단위로 다시 전달해 실패한 이벤트만 재시도 대상으로 남긴다.
+ * 전달은 최소 한 번(at-least-once)이므로 리스너는 eventId로 중복을 걸러야 한다.
+ * 주문 트랜잭션이 커밋되면 도메인 이벤트 실행기에서 바로 한 번 더 돌며, 폴링은 실행기가 거절했거나 실패한 경우의 안전망이다.
+ */
+@Slf4j
+@Component
+public class OrderEventRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor domainEventExecutor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retentionMillis;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    // 한 노드에서 릴레이는 한 번에 하나만 돌고, 도는 중에 들어온 요청은 끝난 뒤 한 번 더 돌게 한다
+    private final ReentrantLock relayLock = new ReentrantLock();
+    private final AtomicBoolean rerunRequested = new AtomicBoolean();
+    private final AtomicBoolean kickScheduled = new AtomicBoolean();
+
+    public OrderEventRelay(OutboxEventRepository outboxEventRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Qualifier(DomainEventExecutorConfig.DOMAIN_EVENT_EXECUTOR) TaskExecutor domainEventExecutor,
+                           @Value("${commerce.outbox.batch-size:100}") int batchSize,
+                           @Value("${commerce.outbox.max-attempts:10}") int maxAttempts,
+                           @Value("${commerce.outbox.retention-ms:604800000}") long retentionMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.domainEventExecutor = domainEventExecutor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionMillis = retentionMillis;
+        this.publishedCounter = Counter.builder("commerce.outbox.published")
+                .description("전달 완료된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("commerce.outbox.failed")
+                .description("전달에 실패해 재시도 대상으로 남은 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        TimeGauge.builder("commerce.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("가장 오래된 발행 대기 이벤트가 기록된 후 지난 시간")
+                .register(meterRegistry);
+    }
+
+    // 주문 커밋 직후 릴레이를 깨움 (이미 예약된 실행이 있으면 합쳐짐)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOutboxEventRecorded(OutboxEventRecordedEvent event) {
+        if (!kickScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            domainEventExecutor.execute(() -> {
+                kickScheduled.set(false);
+                relay();
+            });
+        } catch (TaskRejectedException e) {
+            // 실행기가 가득 찬 경우 다음 폴링에서 처리
+            kickScheduled.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.outbox.poll-interval-ms:200}")
+    public void relay() {
+        if (!relayLock.tryLock()) {
+            rerunRequested.set(true);
+            return;
+        }
+        try {
+            do {
+                rerunRequested.set(false);
+                drain();
+            } while (rerunRequested.get());
+            updateLag();
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    private void drain() {
+        // 배치가 가득 차고 모두 전달됐다면 쌓인 이벤트가 더 있을 수 있으므로 바로 다음 배치를 처리
+        boolean drained = false;
+        while (!drained) {
+            List<OutboxEvent> claimed = new ArrayList<>();
+            boolean allPublished = dispatchBatch(claimed);
+            drained = claimed.size() < batchSize || !allPublished;
+        }
+    }
+
+    // 발행 완료 후 보관 기간이 지난 이벤트 정리
+    @Scheduled(fixedDelayString = "${commerce.outbox.cleanup-interval-ms:3600000}")
+    public void purgePublished() {
+        LocalDateTime threshold = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(threshold));
+        if (deleted != null && deleted > 0) {
+            log.info("발행 완료 아웃박스 이벤트 정리 - {}건", deleted);
+        }
+    }
+
+    long getLagMillis() {
+        return lagMillis.get();
+    }
+
+    // 대기 이벤트를 잠가서 claimed에 담고 한 트랜잭션으로 전달 (잠금은 커밋/롤백까지 유지)
+    boolean dispatchBatch(List<OutboxEvent> claimed) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                claimed.addAll(outboxEventRepository.claimPending(maxAttempts, PageRequest.of(0, batchSize)));
+                publish(claimed);
+            });
+            publishedCounter.increment(claimed.size());
+            return true;
+        } catch (RuntimeException e) {
+            if (claimed.isEmpty()) {
+                throw e;
+            }
+            if (claimed.size() == 1) {
+                recordFailure(claimed.get(0), e);
+                return false;
+            }
+            log.warn("아웃박스 배치 전달 실패, 이벤트 단위로 재시도 - 배치 크기: {}, 에러: {}", claimed.size(), e.getMessage());
+        }
+
+        boolean allPublished = true;
+        for (OutboxEvent event : claimed) {
+            allPublished &= dispatchOne(event);
+        }
+        return allPublished;
+    }
+
+    private boolean dispatchOne(OutboxEvent event) {
+        try {
+            Boolean published = transactionTemplate.execute(status -> {
+                // 배치 롤백으로 잠금이 풀린 사이 다른 노드가 가져갔다면 건너뜀
+                Optional<OutboxEvent> claimed = outboxEventRepository.claimPendingById(event.getId(), maxAttempts);
+                claimed.ifPresent(e -> publish(List.of(e)));
+                return claimed.isPresent();
+            });
+            if (Boolean.TRUE.equals(published)) {
+                publishedCounter.increment();
+            }
+            return true;
+        } catch (RuntimeException e) {
+            recordFailure(event, e);
+            return false;
+        }
+    }
+
+    private void publish(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        for (OutboxEvent event : events) {
+            eventPublisher.publishEvent(toApplicationEvent(event));
+        }
+        outboxEventRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+    }
+
+    private void recordFailure(OutboxEvent event, RuntimeException e) {
+        failedCounter.increment();
+        log.error("아웃박스 이벤트 전달 실패 - 이벤트 ID: {}, 타입: {}, 시도 횟수: {}",
+                event.getId(), event.getEventType(), event.getAttempts() + 1, e);
+        String message = String.valueOf(e.getMessage());
+        String error = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.recordFailure(event.getId(), error));
+    }
+
+    private Object toApplicationEvent(OutboxEvent event) {
+        if (OrderCreatedEvent.TYPE.equals(event.getEventType())) {
+            OrderCreatedEvent.Payload payload = fromJson(event.getPayload(), OrderCreatedEvent.Payload.class);
+            return new OrderCreatedEvent(this, event.getId(), payload.orderId(), payload.userEmail(), payload.totalAmount(),
+                    payload.productIds(), payload.orderedAt());
+        }
+        throw new IllegalStateException("알 수 없는 아웃박스 이벤트 타입: " + event.getEventType());
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화 실패", e);
+        }
+    }
+
+    private void updateLag() {
+        long lag = outboxEventRepository.findOldestPendingCreatedAt(maxAttempts)
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                .orElse(0L);
+        lagMillis.set(lag);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.commerce_mvp.application.order.event;
+
+// 아웃박스에 이벤트가 기록되었음을 알림 (커밋 이후 릴레이를 바로 깨우는 용도)
+public record OutboxEventRecordedEvent(Long outboxEventId) {
+}
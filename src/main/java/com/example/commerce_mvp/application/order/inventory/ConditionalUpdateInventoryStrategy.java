@@ -0,0 +1,91 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.product.ShardedStockService;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.order.OrderItem;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 행을 미리 잠그지 않고 "stock >= 수량" 조건부 UPDATE 한 번으로 재고를 차감한다.
+ * 행 잠금은 UPDATE 문이 실행되는 순간부터만 잡히며, 영향받은 행이 0이면 재고 부족으로 보고
+ * 예외를 던져 이미 차감한 다른 상품까지 트랜잭션 단위로 롤백한다.
+ * 재고가 버킷으로 분할된 상품은 ShardedStockService로 차감한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "commerce.order.stock-strategy", havingValue = "conditional-update")
+public class ConditionalUpdateInventoryStrategy implements InventoryStrategy {
+
+    private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+
+    @Override
+    public void allocate(Order order, List<CreateOrderRequestDto.OrderItemRequestDto> orderItems) {
+        List<Long> productIds = orderItems.stream()
+                .map(CreateOrderRequestDto.OrderItemRequestDto::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        // 가격/이름 스냅샷용 조회 (잠금 없음)
+        Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 같은 상품이 여러 번 들어와도 UPDATE는 한 번만 실행되도록 수량을 합산
+        // 상품 ID 순으로 정렬해 동시 주문 간 행 잠금 순서를 일정하게 유지
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (CreateOrderRequestDto.OrderItemRequestDto itemRequest : orderItems) {
+            Product product = productMap.get(itemRequest.getProductId());
+            if (product == null) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + itemRequest.getProductId());
+            }
+
+            // 수량 검증은 팩토리 메서드에서 수행 (0 이하 수량으로 재고가 늘어나는 것을 방지)
+            OrderItem orderItem = OrderItem.createOrderItem(product, itemRequest.getQuantity());
+            order.addOrderItem(orderItem);
+            quantities.merge(product.getId(), orderItem.getQuantity(), Integer::sum);
+        }
+
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Product product = productMap.get(entry.getKey());
+            if (product.isStockSharded()) {
+                shardedStockService.decrease(product, entry.getValue());
+                continue;
+            }
+            int updated = productRepository.decreaseStockIfAvailable(entry.getKey(), entry.getValue());
+            if (updated == 0) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
+                        "재고가 부족합니다. 상품: " + product.getName() + ", 요청 수량: " + entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void release(Order order) {
+        for (OrderItem orderItem : order.getOrderItems()) {
+            Product product = orderItem.getProduct();
+            if (product.isStockSharded()) {
+                shardedStockService.increase(product, orderItem.getQuantity());
+            } else {
+                productRepository.increaseStock(product.getId(), orderItem.getQuantity());
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "conditional-update";
+    }
+}
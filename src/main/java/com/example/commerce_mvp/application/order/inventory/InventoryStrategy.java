@@ -0,0 +1,24 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.domain.order.Order;
+
+import java.util.List;
+
+/**
+ * 주문 생성/취소 시 재고를 차감하고 복구하는 방식.
+ * commerce.order.stock-strategy 설정으로 배포마다 구현체를 선택한다.
+ * (pessimistic-lock | conditional-update | reservation-engine)
+ * 모든 메서드는 호출하는 쪽의 트랜잭션 안에서 실행되며, 예외가 발생하면 해당 트랜잭션 전체가 롤백된다.
+ */
+public interface InventoryStrategy {
+
+    // 주문 아이템을 생성해 주문에 추가하고 재고를 차감
+    void allocate(Order order, List<CreateOrderRequestDto.OrderItemRequestDto> orderItems);
+
+    // 주문에 포함된 수량만큼 재고를 복구
+    void release(Order order);
+
+    // 로그/메트릭에 사용할 전략 이름
+    String name();
+}
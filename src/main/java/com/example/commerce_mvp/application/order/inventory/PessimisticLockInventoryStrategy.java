@@ -0,0 +1,118 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.product.ShardedStockService;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.order.OrderItem;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 행을 SELECT ... FOR UPDATE로 잠근 뒤 엔티티의 재고를 변경한다 (기본 전략).
+ * 잠금은 주문 트랜잭션이 끝날 때까지 유지된다.
+ * 재고가 버킷으로 분할된 상품은 상품 행을 잠그지 않고 ShardedStockService로 차감한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "commerce.order.stock-strategy", havingValue = "pessimistic-lock", matchIfMissing = true)
+public class PessimisticLockInventoryStrategy implements InventoryStrategy {
+
+    private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+    private final EntityManager entityManager;
+
+    @Override
+    public void allocate(Order order, List<CreateOrderRequestDto.OrderItemRequestDto> orderItems) {
+        // 상품 ID 목록 추출 (잠금 순서를 고정하기 위해 정렬)
+        List<Long> productIds = orderItems.stream()
+                .map(CreateOrderRequestDto.OrderItemRequestDto::getProductId)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        // 버킷으로 분할된 상품은 상품 행 잠금 대상에서 제외
+        Set<Long> shardedIds = new HashSet<>(productRepository.findStockShardedIds(productIds));
+        List<Long> lockIds = productIds.stream()
+                .filter(id -> !shardedIds.contains(id))
+                .collect(Collectors.toList());
+
+        // 동시성 제어를 위해 상품들을 Lock으로 조회
+        List<Product> products = new ArrayList<>();
+        if (!lockIds.isEmpty()) {
+            products.addAll(productRepository.findByIdsWithLock(lockIds));
+        }
+        if (!shardedIds.isEmpty()) {
+            for (Product product : productRepository.findAllById(shardedIds)) {
+                // 분할 여부 확인 이후 분할이 해제된 상품은 행을 잠그고 최신 재고로 다시 읽어 일반 상품으로 처리
+                if (!product.isStockSharded()) {
+                    entityManager.refresh(product, LockModeType.PESSIMISTIC_WRITE);
+                }
+                products.add(product);
+            }
+        }
+        Map<Long, Product> productMap = products.stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+
+        // 주문 아이템 생성 및 재고 확인 (도메인 로직 사용)
+        // 분할된 상품은 상품 ID 순으로 한 번씩만 차감
+        Map<Long, Integer> shardedQuantities = new TreeMap<>();
+        for (CreateOrderRequestDto.OrderItemRequestDto itemRequest : orderItems) {
+            Product product = productMap.get(itemRequest.getProductId());
+            if (product == null) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + itemRequest.getProductId());
+            }
+
+            // OrderItem 생성 (도메인 팩토리 메서드 사용)
+            OrderItem orderItem = OrderItem.createOrderItem(product, itemRequest.getQuantity());
+
+            // 분할 여부는 잠근(또는 다시 읽은) 엔티티 기준으로 판단 - 잠그기 전에 분할된 상품은 버킷으로 차감
+            if (product.isStockSharded()) {
+                order.addOrderItem(orderItem);
+                shardedQuantities.merge(product.getId(), orderItem.getQuantity(), Integer::sum);
+            } else {
+                // 다른 재고 전략과 같은 에러로 거절 (도메인의 재고 확인은 불변식 검사로 남겨 둠)
+                if (product.getStock() < orderItem.getQuantity()) {
+                    throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
+                            "재고가 부족합니다. 상품: " + product.getName() + ", 요청 수량: " + orderItem.getQuantity() + ", 재고: " + product.getStock());
+                }
+                // 주문 아이템 추가 및 재고 확인/차감 (도메인 로직 사용)
+                order.addOrderItemWithStockCheck(orderItem);
+            }
+        }
+
+        shardedQuantities.forEach((productId, quantity) ->
+                shardedStockService.decrease(productMap.get(productId), quantity));
+    }
+
+    @Override
+    public void release(Order order) {
+        for (OrderItem orderItem : order.getOrderItems()) {
+            Product product = orderItem.getProduct();
+            if (product.isStockSharded()) {
+                shardedStockService.increase(product, orderItem.getQuantity());
+            } else {
+                product.increaseStock(orderItem.getQuantity());
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "pessimistic-lock";
+    }
+}
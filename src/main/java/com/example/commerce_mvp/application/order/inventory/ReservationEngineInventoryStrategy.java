@@ -0,0 +1,95 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.product.ShardedStockService;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.order.OrderItem;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 수락/거절을 StockReservationEngine의 메모리 카운터로 처리한다.
+ * 상품 행을 잠그거나 갱신하지 않으며, DB 반영은 엔진이 비동기로 일괄 처리한다.
+ * 재고가 버킷으로 분할된 상품은 엔진을 거치지 않고 ShardedStockService로 차감한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "commerce.order.stock-strategy", havingValue = "reservation-engine")
+public class ReservationEngineInventoryStrategy implements InventoryStrategy {
+
+    private final ProductRepository productRepository;
+    private final StockReservationEngine reservationEngine;
+    private final ShardedStockService shardedStockService;
+
+    @Override
+    public void allocate(Order order, List<CreateOrderRequestDto.OrderItemRequestDto> orderItems) {
+        List<Long> productIds = orderItems.stream()
+                .map(CreateOrderRequestDto.OrderItemRequestDto::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        // 가격/이름 스냅샷용 조회 (잠금 없음, 재고 값은 사용하지 않음)
+        Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        SortedMap<Long, Integer> shardedQuantities = new TreeMap<>();
+        for (CreateOrderRequestDto.OrderItemRequestDto itemRequest : orderItems) {
+            Product product = productMap.get(itemRequest.getProductId());
+            if (product == null) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + itemRequest.getProductId());
+            }
+
+            OrderItem orderItem = OrderItem.createOrderItem(product, itemRequest.getQuantity());
+            order.addOrderItem(orderItem);
+            (product.isStockSharded() ? shardedQuantities : quantities)
+                    .merge(product.getId(), orderItem.getQuantity(), Integer::sum);
+        }
+
+        if (!quantities.isEmpty()) {
+            Optional<Long> rejected = reservationEngine.reserve(quantities);
+            if (rejected.isPresent()) {
+                Product product = productMap.get(rejected.get());
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
+                        "재고가 부족합니다. 상품: " + product.getName() + ", 요청 수량: " + quantities.get(rejected.get()));
+            }
+        }
+        // 예약 이후 예외가 나면 트랜잭션 롤백 시 엔진 예약도 함께 해제됨
+        shardedQuantities.forEach((productId, quantity) ->
+                shardedStockService.decrease(productMap.get(productId), quantity));
+    }
+
+    @Override
+    public void release(Order order) {
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            Product product = orderItem.getProduct();
+            if (product.isStockSharded()) {
+                shardedStockService.increase(product, orderItem.getQuantity());
+            } else {
+                quantities.merge(product.getId(), orderItem.getQuantity(), Integer::sum);
+            }
+        }
+        if (!quantities.isEmpty()) {
+            reservationEngine.release(quantities);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "reservation-engine";
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 변동을 순번과 함께 기록하는 추가 전용 로컬 파일.
+ * 한 줄에 한 건씩 "순번 상품ID 변동량" 형식으로 기록하며, DB 반영 전에 프로세스가 죽어도
+ * 마지막 체크포인트 이후의 기록을 다시 읽어 복구할 수 있다.
+ *
+ * 기록(append)과 디스크 동기화(sync)를 나눠 그룹 커밋한다. append는 파일에 쓰기만 하고,
+ * sync를 호출한 스레드 중 하나가 그때까지 쓰인 기록 전체를 fsync 한 번으로 내리는 동안 나머지는 그 결과를 기다린다.
+ * fsync는 기록 잠금 밖에서 하므로 그동안에도 다음 기록이 쌓인다.
+ */
+public class StockJournal implements Closeable {
+
+    private final Path path;
+    private final boolean fsync;
+    private FileChannel channel;
+    private long lastSeq;
+    // 디스크에 내려간 마지막 순번과 fsync 진행 여부 (syncLock으로 보호)
+    private final Object syncLock = new Object();
+    private long syncedSeq;
+    private boolean syncing;
+
+    public StockJournal(Path path, boolean fsync) {
+        this.path = path;
+        this.fsync = fsync;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널을 열 수 없습니다: " + path, e);
+        }
+        this.lastSeq = readAfter(0).stream().mapToLong(Entry::seq).max().orElse(0);
+        this.syncedSeq = lastSeq;
+    }
+
+    // 주어진 순번 이후의 기록 (마지막 줄이 잘린 경우는 무시)
+    public synchronized List<Entry> readAfter(long seq) {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ");
+                if (parts.length != 3) {
+                    continue;
+                }
+                try {
+                    Entry entry = new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Integer.parseInt(parts[2]));
+                    if (entry.seq() > seq) {
+                        entries.add(entry);
+                    }
+                } catch (NumberFormatException ignored) {
+                    // 기록 도중 종료되어 잘린 줄
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널을 읽을 수 없습니다: " + path, e);
+        }
+        return entries;
+    }
+
+    // 상품별 변동량을 기록하고 마지막 순번을 반환 (디스크 동기화는 sync로 따로 기다림)
+    public synchronized long append(Map<Long, Integer> deltas) {
+        StringBuilder lines = new StringBuilder();
+        long seq = lastSeq;
+        for (Map.Entry<Long, Integer> delta : deltas.entrySet()) {
+            lines.append(++seq).append(' ').append(delta.getKey()).append(' ').append(delta.getValue()).append('\n');
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널에 기록할 수 없습니다: " + path, e);
+        }
+        lastSeq = seq;
+        return seq;
+    }
+
+    /**
+     * seq까지의 기록이 디스크에 내려갈 때까지 기다린다 (fsync를 끄면 바로 반환).
+     * 진행 중인 fsync가 있으면 끝나기를 기다렸다가, 아직 덮이지 않았으면 직접 그때까지의 기록 전체를 fsync한다.
+     */
+    public void sync(long seq) {
+        if (!fsync) {
+            return;
+        }
+        while (true) {
+            synchronized (syncLock) {
+                while (syncing && syncedSeq < seq) {
+                    try {
+                        syncLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("재고 저널 동기화를 기다리는 중 인터럽트되었습니다.", e);
+                    }
+                }
+                if (syncedSeq >= seq) {
+                    return;
+                }
+                syncing = true;
+            }
+            long forcedSeq = 0;
+            try {
+                forcedSeq = forceWritten();
+            } finally {
+                markSynced(forcedSeq);
+            }
+        }
+    }
+
+    public synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    // 지금까지 쓰인 기록을 기록 잠금 없이 fsync하고 내려간 마지막 순번을 반환 (파일 교체와 겹치면 0)
+    private long forceWritten() {
+        FileChannel target;
+        long seq;
+        synchronized (this) {
+            target = channel;
+            seq = lastSeq;
+        }
+        try {
+            target.force(false);
+            return seq;
+        } catch (ClosedByInterruptException e) {
+            // 인터럽트로 닫힌 채널은 다음 기록을 위해 다시 연다
+            synchronized (this) {
+                if (!channel.isOpen()) {
+                    reopen();
+                }
+            }
+            throw new UncheckedIOException("재고 저널 동기화 중 인터럽트되었습니다: " + path, e);
+        } catch (ClosedChannelException e) {
+            // discardUpTo가 파일을 교체하며 닫은 채널이면 교체하면서 남은 기록을 fsync했으므로 syncedSeq가 이미 올라가 있음
+            synchronized (this) {
+                if (channel == target) {
+                    throw new UncheckedIOException("닫힌 재고 저널입니다: " + path, e);
+                }
+            }
+            return 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널을 동기화할 수 없습니다: " + path, e);
+        }
+    }
+
+    private void markSynced(long seq) {
+        synchronized (syncLock) {
+            syncing = false;
+            syncedSeq = Math.max(syncedSeq, seq);
+            syncLock.notifyAll();
+        }
+    }
+
+    // 모든 기록이 DB에 반영된 뒤 파일을 비움 (순번은 이어서 사용)
+    public synchronized void truncate() {
+        try {
+            channel.truncate(0);
+            if (fsync) {
+                channel.force(true);
+                markDurable();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널을 비울 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 주어진 순번까지의 기록을 버리고 이후 기록만 남긴다 (DB 반영이 체크포인트로 남은 뒤 호출).
+     * 남길 기록을 임시 파일에 쓴 뒤 원자적으로 교체하므로 도중에 죽어도 기존 파일이 그대로 남는다.
+     */
+    public synchronized void discardUpTo(long seq) {
+        List<Entry> remaining = readAfter(seq);
+        if (remaining.isEmpty()) {
+            truncate();
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : remaining) {
+            lines.append(entry.seq()).append(' ').append(entry.productId()).append(' ').append(entry.delta()).append('\n');
+        }
+        Path rotated = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(rotated, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            if (fsync) {
+                out.force(true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널을 정리할 수 없습니다: " + path, e);
+        }
+        try {
+            channel.close();
+            Files.move(rotated, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널을 교체할 수 없습니다: " + path, e);
+        } finally {
+            reopen();
+        }
+        if (fsync) {
+            markDurable();
+        }
+    }
+
+    // 비우거나 교체하면서 fsync한 파일에는 seq 이하 기록이 모두 반영됨 (버린 기록은 체크포인트로 남았음)
+    private void markDurable() {
+        long seq = lastSeq;
+        synchronized (syncLock) {
+            syncedSeq = Math.max(syncedSeq, seq);
+            syncLock.notifyAll();
+        }
+    }
+
+    // 순번을 이어 가기 위해 비운 뒤에도 마지막 순번은 유지
+    public synchronized void restoreSeq(long seq) {
+        this.lastSeq = Math.max(this.lastSeq, seq);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void reopen() {
+        try {
+            channel = open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    public record Entry(long seq, long productId, int delta) {
+    }
+}
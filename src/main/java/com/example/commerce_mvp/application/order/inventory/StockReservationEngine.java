@@ -0,0 +1,495 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.product.event.ProductChangedEvent;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.product.StockJournalCheckpoint;
+import com.example.commerce_mvp.domain.product.StockJournalCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * 상품별 판매 가능 재고를 메모리의 원자 카운터로 관리하는 예약 엔진.
+ * 주문 라인은 CAS만으로 수락/거절되고 DB 잠금을 잡지 않는다.
+ *
+ * 재고 차감은 주문 트랜잭션 커밋 직전에 로컬 저널에 먼저 기록되고, 재고 복구(주문 취소)는 커밋 후에 기록된다.
+ * 저널 fsync는 journalLock 밖에서 그룹 커밋하므로 동시에 커밋하는 주문들이 fsync 한 번을 나눠 쓴다.
+ * 어느 쪽이든 장애 시 잃는 방향은 "덜 파는 것"이며 초과 판매는 일어나지 않는다.
+ * 저널에 쌓인 변동분은 주기적으로 Product 테이블에 일괄 반영되고, 반영한 순번은 같은 트랜잭션에서 체크포인트로 남는다.
+ *
+ * 재고의 기준이 노드 메모리이므로 단일 인스턴스 배포에서만 사용해야 한다.
+ * 버킷으로 분할된 상품은 엔진을 거치지 않으며, 이 전략에서는 분할 적용/해제 자체를 막는다 (ShardedStockService).
+ * 엔진 밖에서 바뀐 DB 재고는 대조(reconcile)에서 어긋난 상품을 차단한 뒤 DB 기준으로 다시 맞춘다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "commerce.order.stock-strategy", havingValue = "reservation-engine")
+public class StockReservationEngine {
+
+    private static final String JOURNAL_ID = "stock-journal";
+
+    private final ProductRepository productRepository;
+    private final StockJournalCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readTemplate;
+    private final StockJournal journal;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter rejectedCounter;
+    private final Counter mismatchCounter;
+    private final Counter skippedDeltaCounter;
+
+    private final Map<Long, StockCounter> counters = new ConcurrentHashMap<>();
+    // 대조에서 어긋나 새 예약을 받지 않는 상품 (미확정 예약이 모두 끝나면 DB 기준으로 다시 맞춘 뒤 해제)
+    private final Set<Long> fencedProducts = ConcurrentHashMap.newKeySet();
+    // 저널에 기록됐지만 아직 DB에 반영되지 않은 변동분 (journalLock으로 보호)
+    private final Map<Long, Integer> pendingDeltas = new HashMap<>();
+    private final Object journalLock = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // DB 반영 진행 여부와 완료 횟수 (journalLock으로 보호) - 잠금 없이 읽은 DB 재고가 반영과 겹쳤는지 판단하는 데 사용
+    private boolean flushing;
+    private long flushGeneration;
+
+    public StockReservationEngine(ProductRepository productRepository,
+                                  StockJournalCheckpointRepository checkpointRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${commerce.inventory.reservation.journal-path:./data/stock-journal.log}") String journalPath,
+                                  @Value("${commerce.inventory.reservation.journal-fsync:true}") boolean journalFsync) {
+        this.productRepository = productRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 주문 트랜잭션의 스냅샷이 아닌 최신 커밋 값을 읽기 위해 항상 새 트랜잭션에서 조회
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTemplate.setReadOnly(true);
+        this.journal = new StockJournal(Path.of(journalPath), journalFsync);
+        this.eventPublisher = eventPublisher;
+        this.rejectedCounter = Counter.builder("commerce.inventory.reservation.rejected")
+                .description("재고 부족으로 거절된 주문 수")
+                .register(meterRegistry);
+        this.mismatchCounter = Counter.builder("commerce.inventory.reservation.reconcile.mismatches")
+                .description("메모리 재고와 DB 재고가 맞지 않은 상품 수")
+                .register(meterRegistry);
+        this.skippedDeltaCounter = Counter.builder("commerce.inventory.reservation.skipped-deltas")
+                .description("재고가 분할되었거나 삭제되어 DB에 반영하지 않은 변동분 수")
+                .register(meterRegistry);
+        Gauge.builder("commerce.inventory.reservation.fenced", fencedProducts, Set::size)
+                .description("대조 불일치로 예약을 받지 않는 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("commerce.inventory.reservation.pending", this, StockReservationEngine::pendingProductCount)
+                .description("DB 반영을 기다리는 상품 수")
+                .register(meterRegistry);
+    }
+
+    // 마지막 체크포인트 이후의 저널 기록을 DB에 반영한 뒤 엔진을 시작
+    @PostConstruct
+    public void recover() {
+        long checkpoint = checkpointRepository.findById(JOURNAL_ID)
+                .map(StockJournalCheckpoint::getLastSeq)
+                .orElse(0L);
+        List<StockJournal.Entry> entries = journal.readAfter(checkpoint);
+
+        Map<Long, Integer> deltas = new TreeMap<>();
+        long lastSeq = checkpoint;
+        for (StockJournal.Entry entry : entries) {
+            deltas.merge(entry.productId(), entry.delta(), Integer::sum);
+            lastSeq = Math.max(lastSeq, entry.seq());
+        }
+        if (!deltas.isEmpty()) {
+            applyToDatabase(deltas, lastSeq);
+            log.info("재고 저널 복구 - 기록 수: {}, 상품 수: {}, 마지막 순번: {}", entries.size(), deltas.size(), lastSeq);
+        }
+        journal.truncate();
+        journal.restoreSeq(lastSeq);
+    }
+
+    /**
+     * 주문 라인 전체를 예약한다. 하나라도 재고가 부족하면 이미 잡은 예약을 되돌리고 그 상품 ID를 반환한다.
+     * 트랜잭션 안에서 호출되면 커밋 직전에 저널에 기록되고, 롤백되면 예약이 자동으로 해제된다.
+     */
+    public Optional<Long> reserve(SortedMap<Long, Integer> quantities) {
+        // 없는 상품이 섞여 있으면 예약을 잡기 전에 거절되도록 카운터부터 모두 준비
+        Map<Long, StockCounter> lines = new TreeMap<>();
+        quantities.keySet().forEach(productId -> lines.put(productId, counter(productId)));
+
+        List<Map.Entry<Long, Integer>> reserved = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            if (!lines.get(entry.getKey()).tryReserve(entry.getValue())) {
+                reserved.forEach(done -> lines.get(done.getKey()).cancel(done.getValue()));
+                rejectedCounter.increment();
+                return Optional.of(entry.getKey());
+            }
+            reserved.add(entry);
+        }
+
+        Map<Long, Integer> decrements = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> decrements.put(productId, -quantity));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            journal.sync(confirm(decrements));
+            return Optional.empty();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean journaled;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                long seq = confirm(decrements);
+                journaled = true;
+                // 차감이 디스크에 내려간 뒤에 주문을 커밋 (동시에 커밋하는 주문들과 fsync 한 번을 나눠 씀)
+                journal.sync(seq);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                if (status == STATUS_UNKNOWN && journaled) {
+                    // 커밋 여부를 알 수 없으면 차감을 유지 (초과 판매 방지)
+                    log.error("주문 트랜잭션 결과를 알 수 없어 재고 차감을 유지합니다: {}", decrements);
+                    return;
+                }
+                if (journaled) {
+                    // 이미 저널에 차감이 기록됐으므로 보상 기록 후 메모리 재고 복구
+                    Map<Long, Integer> increments = new TreeMap<>(quantities);
+                    appendAndRelease(increments);
+                } else {
+                    quantities.forEach((productId, quantity) -> lines.get(productId).cancel(quantity));
+                }
+            }
+        });
+        return Optional.empty();
+    }
+
+    /**
+     * 재고를 복구한다 (주문 취소). 트랜잭션 안에서 호출되면 커밋된 뒤에만 반영한다.
+     */
+    public void release(SortedMap<Long, Integer> quantities) {
+        Map<Long, Integer> increments = new TreeMap<>(quantities);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            appendAndRelease(increments);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                appendAndRelease(increments);
+            }
+        });
+    }
+
+    // 저널에 쌓인 변동분을 Product 테이블에 일괄 반영
+    @Scheduled(fixedDelayString = "${commerce.inventory.reservation.flush-interval-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (!fencedProducts.isEmpty()) {
+                repairFenced();
+            }
+            Map<Long, Integer> deltas;
+            long upToSeq;
+            synchronized (journalLock) {
+                if (pendingDeltas.isEmpty()) {
+                    return;
+                }
+                deltas = new TreeMap<>(pendingDeltas);
+                pendingDeltas.clear();
+                upToSeq = journal.lastSeq();
+                flushing = true;
+            }
+
+            try {
+                applyToDatabase(deltas, upToSeq);
+            } catch (RuntimeException e) {
+                synchronized (journalLock) {
+                    deltas.forEach((productId, delta) -> pendingDeltas.merge(productId, delta, Integer::sum));
+                    finishFlush();
+                }
+                log.warn("재고 변동 DB 반영 실패 - 다음 주기에 재시도합니다. 상품 수: {}", deltas.size(), e);
+                return;
+            }
+            synchronized (journalLock) {
+                finishFlush();
+            }
+            // DB 재고가 실제로 바뀐 시점에 알림 (주문 커밋 시점에는 아직 반영 전)
+            eventPublisher.publishEvent(ProductChangedEvent.of(deltas.keySet()));
+
+            // 체크포인트로 남긴 순번까지는 복구에 필요 없으므로 버림 (주문이 계속 들어와도 파일이 반영 주기 분량 이상 커지지 않음)
+            try {
+                journal.discardUpTo(upToSeq);
+            } catch (UncheckedIOException e) {
+                log.warn("재고 저널 정리 실패 - 다음 반영 때 다시 정리합니다. 순번: {}", upToSeq, e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 메모리 재고와 DB 재고를 대조한다.
+     * 반영 대기 중인 변동분과 아직 커밋되지 않은 예약을 감안하면 두 값은 항상 같아야 하며,
+     * 메모리 재고가 음수가 되는 일(초과 판매)은 없어야 한다. 어긋난 상품 ID 목록을 반환한다.
+     * DB 조회는 잠금 없이 하며, 예약 도중의 순간적인 차이를 걸러내기 위해 다시 확인해도 어긋난 상품만 보고한다.
+     * 보고한 상품은 새 예약을 거절하도록 차단하고, 미확정 예약이 끝나는 대로 메모리 재고를 DB 기준(반영 대기분 포함)으로 다시 맞춘다.
+     */
+    @Scheduled(fixedDelayString = "${commerce.inventory.reservation.reconcile-interval-ms:60000}")
+    public List<Long> reconcile() {
+        Map<Long, StockCounter> snapshot = new TreeMap<>(counters);
+        List<Long> mismatches = new ArrayList<>();
+        for (Map.Entry<Long, StockCounter> entry : snapshot.entrySet()) {
+            Long productId = entry.getKey();
+            StockCounter counter = entry.getValue();
+            if (counter.fenced) {
+                continue;
+            }
+            StockReading first = readStock(productId, counter);
+            if (first == null || first.matches()) {
+                continue;
+            }
+            StockReading reading = readStock(productId, counter);
+            if (reading == null || reading.matches()) {
+                continue;
+            }
+            if (reading.oversold()) {
+                log.error("초과 판매 감지 - 상품 ID: {}, 메모리 재고: {}, DB 기준 재고: {}",
+                        productId, reading.available(), reading.expected());
+            } else {
+                log.warn("재고 불일치 - 상품 ID: {}, 메모리 재고: {}, 미확정 예약: {}, DB 기준 재고: {}",
+                        productId, reading.available(), reading.inFlight(), reading.expected());
+            }
+            mismatches.add(productId);
+            counter.fenced = true;
+            fencedProducts.add(productId);
+        }
+        mismatchCounter.increment(mismatches.size());
+        if (!mismatches.isEmpty()) {
+            flushLock.lock();
+            try {
+                repairFenced();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+        return mismatches;
+    }
+
+    public int available(Long productId) {
+        return counter(productId).available.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        flush();
+        journal.close();
+    }
+
+    // 예약 확정: 저널 기록 후 DB 반영 대기열에 추가하고 순번을 반환 (디스크 동기화는 journalLock 밖에서 journal.sync로 기다림)
+    private long confirm(Map<Long, Integer> decrements) {
+        synchronized (journalLock) {
+            long seq = journal.append(decrements);
+            decrements.forEach((productId, delta) -> {
+                pendingDeltas.merge(productId, delta, Integer::sum);
+                counters.get(productId).inFlight.addAndGet(delta);
+            });
+            return seq;
+        }
+    }
+
+    private void appendAndRelease(Map<Long, Integer> increments) {
+        long seq;
+        synchronized (journalLock) {
+            seq = journal.append(increments);
+            increments.forEach((productId, quantity) -> {
+                pendingDeltas.merge(productId, quantity, Integer::sum);
+                // 아직 메모리에 올라오지 않은 상품은 처음 사용할 때 DB 재고 + 반영 대기분으로 초기화됨
+                StockCounter counter = counters.get(productId);
+                if (counter != null) {
+                    counter.available.addAndGet(quantity);
+                }
+            });
+        }
+        // 복구분을 잃어도 덜 파는 방향이므로 메모리에 먼저 반영하고 동기화는 잠금 밖에서 기다림
+        journal.sync(seq);
+    }
+
+    // 분할된(또는 삭제된) 상품의 변동분은 재고 컬럼에 더하지 않음 - 분할 시점의 재고는 이미 버킷으로 옮겨졌음
+    private void applyToDatabase(Map<Long, Integer> deltas, long upToSeq) {
+        transactionTemplate.executeWithoutResult(status -> {
+            deltas.forEach((productId, delta) -> {
+                if (delta != 0 && productRepository.applyStockDelta(productId, delta) == 0) {
+                    log.error("재고가 분할되었거나 없는 상품이라 변동분을 반영하지 않습니다 - 상품 ID: {}, 변동량: {}", productId, delta);
+                    skippedDeltaCounter.increment();
+                }
+            });
+            StockJournalCheckpoint checkpoint = checkpointRepository.findById(JOURNAL_ID)
+                    .orElseGet(() -> StockJournalCheckpoint.of(JOURNAL_ID, 0));
+            checkpoint.advance(upToSeq);
+            checkpointRepository.save(checkpoint);
+        });
+    }
+
+    // 처음 사용하는 상품은 DB 재고 + 반영 대기분으로 카운터를 초기화 (이후에는 메모리 값이 기준)
+    private StockCounter counter(Long productId) {
+        while (true) {
+            StockCounter counter = counters.get(productId);
+            if (counter != null) {
+                return counter;
+            }
+            counter = readConsistently(productId, (dbStock, pending) -> {
+                if (dbStock == null) {
+                    throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + productId);
+                }
+                StockCounter loaded = new StockCounter(dbStock + pending);
+                StockCounter existing = counters.putIfAbsent(productId, loaded);
+                return existing != null ? existing : loaded;
+            });
+            if (counter != null) {
+                return counter;
+            }
+            // DB 반영과 겹쳤으면 반영이 끝나기를 기다렸다가 다시 읽음 (잠금을 잡은 채로 조회하지는 않음)
+            flushLock.lock();
+            flushLock.unlock();
+        }
+    }
+
+    private StockReading readStock(Long productId, StockCounter counter) {
+        return readConsistently(productId, (dbStock, pending) -> new StockReading(
+                (dbStock == null ? 0 : dbStock) + pending, counter.available.get(), counter.inFlight.get()));
+    }
+
+    /**
+     * 잠금 없이 최신 커밋된 DB 재고를 읽은 뒤, 그동안 DB 반영이 진행되거나 끝나지 않았을 때만
+     * journalLock 안에서 (DB 재고, 반영 대기분)으로 action을 실행한다. 반영과 겹쳤으면 null을 반환한다.
+     * 없는 상품이면 DB 재고로 null이 넘어간다.
+     */
+    private <T> T readConsistently(Long productId, BiFunction<Integer, Integer, T> action) {
+        long generation;
+        synchronized (journalLock) {
+            if (flushing) {
+                return null;
+            }
+            generation = flushGeneration;
+        }
+        Integer dbStock = readTemplate.execute(status -> productRepository.findStockById(productId).orElse(null));
+        synchronized (journalLock) {
+            if (flushing || flushGeneration != generation) {
+                return null;
+            }
+            return action.apply(dbStock, pendingDeltas.getOrDefault(productId, 0));
+        }
+    }
+
+    /**
+     * 차단된 상품 중 미확정 예약이 남지 않은 상품의 메모리 재고를 DB 재고 + 반영 대기분으로 다시 맞추고 차단을 푼다.
+     * 차단 중에는 새 예약이 없으므로 그 사이 메모리 재고는 journalLock 안에서만 바뀐다. flushLock을 잡은 채로 호출한다.
+     */
+    private void repairFenced() {
+        for (Long productId : fencedProducts) {
+            StockCounter counter = counters.get(productId);
+            Boolean repaired = counter == null ? Boolean.TRUE : readConsistently(productId, (dbStock, pending) -> {
+                if (counter.inFlight.get() != 0) {
+                    return false;
+                }
+                int expected = Math.max(0, (dbStock == null ? 0 : dbStock) + pending);
+                log.warn("메모리 재고를 DB 기준으로 다시 맞춥니다 - 상품 ID: {}, 메모리 재고: {} -> {}",
+                        productId, counter.available.get(), expected);
+                counter.available.set(expected);
+                counter.fenced = false;
+                return true;
+            });
+            if (Boolean.TRUE.equals(repaired)) {
+                fencedProducts.remove(productId);
+            }
+        }
+    }
+
+    // journalLock 안에서 호출
+    private void finishFlush() {
+        flushing = false;
+        flushGeneration++;
+    }
+
+    private int pendingProductCount() {
+        synchronized (journalLock) {
+            return pendingDeltas.size();
+        }
+    }
+
+    private record StockReading(int expected, int available, int inFlight) {
+
+        private boolean oversold() {
+            return available < 0 || expected < 0;
+        }
+
+        private boolean matches() {
+            return !oversold() && available + inFlight == expected;
+        }
+    }
+
+    private static final class StockCounter {
+        private final AtomicInteger available;
+        // 메모리에서는 차감됐지만 아직 저널에 확정되지 않은 수량
+        private final AtomicInteger inFlight = new AtomicInteger();
+        // 대조 불일치로 새 예약을 받지 않음
+        private volatile boolean fenced;
+
+        private StockCounter(int available) {
+            this.available = new AtomicInteger(available);
+        }
+
+        private boolean tryReserve(int quantity) {
+            if (fenced) {
+                return false;
+            }
+            inFlight.addAndGet(quantity);
+            while (true) {
+                int current = available.get();
+                if (current < quantity) {
+                    inFlight.addAndGet(-quantity);
+                    return false;
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+
+        private void cancel(int quantity) {
+            available.addAndGet(quantity);
+            inFlight.addAndGet(-quantity);
+        }
+    }
+}
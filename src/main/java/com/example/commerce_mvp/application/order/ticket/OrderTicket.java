@@ -0,0 +1,50 @@
+package com.example.commerce_mvp.application.order.ticket;
+
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 비동기 주문 요청의 처리 상태 (워커 스레드가 갱신하고 요청 스레드가 조회)
+@Getter
+public class OrderTicket {
+
+    private final String ticketId;
+    private final String userEmail;
+    private final LocalDateTime createdAt;
+    private volatile OrderTicketStatus status;
+    private volatile Long orderId;
+    private volatile ErrorCode errorCode;
+    private volatile String message;
+    private volatile LocalDateTime updatedAt;
+
+    public OrderTicket(String ticketId, String userEmail) {
+        this.ticketId = ticketId;
+        this.userEmail = userEmail;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+        this.status = OrderTicketStatus.QUEUED;
+    }
+
+    public void markProcessing() {
+        this.status = OrderTicketStatus.PROCESSING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete(Long orderId) {
+        this.orderId = orderId;
+        this.updatedAt = LocalDateTime.now();
+        this.status = OrderTicketStatus.COMPLETED;
+    }
+
+    public void fail(ErrorCode errorCode, String message) {
+        this.errorCode = errorCode;
+        this.message = message;
+        this.updatedAt = LocalDateTime.now();
+        this.status = OrderTicketStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == OrderTicketStatus.COMPLETED || status == OrderTicketStatus.FAILED;
+    }
+}
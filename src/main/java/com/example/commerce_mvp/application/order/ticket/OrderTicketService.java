@@ -0,0 +1,164 @@
+package com.example.commerce_mvp.application.order.ticket;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.OrderService;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
+import com.example.commerce_mvp.application.order.dto.OrderTicketResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 요청을 제한된 대기열에 넣고 티켓을 돌려준 뒤, 고정된 수의 워커가 OrderService.createOrder로 처리한다.
+ * 워커 수가 DB에 동시에 들어가는 주문 트랜잭션 수의 상한이 되며,
+ * 대기열이 가득 차면 요청 스레드를 붙잡아 두지 않고 바로 ORDER_QUEUE_FULL로 거절한다.
+ * 티켓은 노드 메모리에 보관되며 ticket-ttl-ms가 지난 완료 티켓은 정리된다.
+ *
+ * 종료 시에는 새 요청을 ORDER_QUEUE_FULL로 거절하고, 대기열이 가득 찬 경우를 기준으로 잡은 시간
+ * (capacity / workers * drain-ms-per-order) 동안 남은 요청을 처리한다.
+ * 유실 구간: 이 시간 안에 처리하지 못한 요청과, 종료 유예 시간보다 먼저 프로세스가 강제 종료될 때 대기열에 있던 요청은
+ * 티켓(202)을 받았지만 주문이 생성되지 않는다. 종료 시간을 넘겨 버린 요청은 commerce.order.queue.abandoned와 티켓별 로그로 남는다.
+ */
+@Slf4j
+@Service
+public class OrderTicketService {
+
+    private final OrderService orderService;
+    private final ThreadPoolExecutor workers;
+    private final Map<String, OrderTicket> tickets = new ConcurrentHashMap<>();
+    private final long ticketTtlMillis;
+    private final long drainTimeoutMillis;
+    private final Counter rejectedCounter;
+    private final Counter abandonedCounter;
+
+    public OrderTicketService(OrderService orderService,
+                              MeterRegistry meterRegistry,
+                              @Value("${commerce.order.queue.workers:4}") int workerCount,
+                              @Value("${commerce.order.queue.capacity:1000}") int capacity,
+                              @Value("${commerce.order.queue.ticket-ttl-ms:600000}") long ticketTtlMillis,
+                              @Value("${commerce.order.queue.drain-ms-per-order:200}") long drainMillisPerOrder) {
+        this.orderService = orderService;
+        this.ticketTtlMillis = ticketTtlMillis;
+        // 대기열이 가득 찬 상태에서 워커들이 남은 요청을 모두 처리하는 데 걸리는 시간
+        this.drainTimeoutMillis = (long) ((capacity + workerCount - 1) / workerCount) * drainMillisPerOrder;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "order-queue-" + threadNumber.incrementAndGet());
+                    // 종료 중 대기열을 비우는 동안 JVM이 워커를 버리고 먼저 끝나지 않도록 데몬으로 만들지 않음
+                    thread.setDaemon(false);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rejectedCounter = Counter.builder("commerce.order.queue.rejected")
+                .description("대기열이 가득 차 거절된 주문 수")
+                .register(meterRegistry);
+        this.abandonedCounter = Counter.builder("commerce.order.queue.abandoned")
+                .description("종료 시간 안에 처리하지 못하고 버린 주문 수")
+                .register(meterRegistry);
+        Gauge.builder("commerce.order.queue.depth", workers, executor -> executor.getQueue().size())
+                .description("처리를 기다리는 주문 수")
+                .register(meterRegistry);
+    }
+
+    public OrderTicketResponseDto submit(String userEmail, CreateOrderRequestDto request) {
+        OrderTicket ticket = new OrderTicket(UUID.randomUUID().toString(), userEmail);
+        tickets.put(ticket.getTicketId(), ticket);
+        try {
+            workers.execute(new QueuedOrder(ticket, request));
+        } catch (RejectedExecutionException e) {
+            tickets.remove(ticket.getTicketId());
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.ORDER_QUEUE_FULL);
+        }
+
+        log.info("주문 대기열 등록 - 티켓: {}, 사용자: {}, 대기 건수: {}",
+                ticket.getTicketId(), userEmail, workers.getQueue().size());
+        return OrderTicketResponseDto.from(ticket);
+    }
+
+    public OrderTicketResponseDto getTicket(String ticketId, String userEmail) {
+        OrderTicket ticket = tickets.get(ticketId);
+        // 다른 사용자의 티켓은 존재 여부도 드러내지 않음
+        if (ticket == null || !ticket.getUserEmail().equals(userEmail)) {
+            throw new BusinessException(ErrorCode.ORDER_TICKET_NOT_FOUND, "주문 티켓을 찾을 수 없습니다: " + ticketId);
+        }
+        return OrderTicketResponseDto.from(ticket);
+    }
+
+    // 완료된 지 오래된 티켓 정리
+    @Scheduled(fixedDelayString = "${commerce.order.queue.ticket-cleanup-interval-ms:60000}")
+    public void evictExpiredTickets() {
+        LocalDateTime threshold = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(ticketTtlMillis));
+        tickets.values().removeIf(ticket -> ticket.isFinished() && ticket.getUpdatedAt().isBefore(threshold));
+    }
+
+    // 새 요청을 막고 대기열을 비운 뒤 종료, 시간 안에 처리하지 못한 요청은 실패로 기록하고 남김
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        log.info("주문 대기열 종료 - 남은 건수: {}, 최대 대기 시간: {}ms", workers.getQueue().size(), drainTimeoutMillis);
+        if (workers.awaitTermination(drainTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            return;
+        }
+        List<Runnable> abandoned = workers.shutdownNow();
+        abandonedCounter.increment(abandoned.size());
+        log.error("주문 대기열 종료 시간 초과 - 처리하지 못한 주문 {}건", abandoned.size());
+        for (Runnable runnable : abandoned) {
+            OrderTicket ticket = ((QueuedOrder) runnable).ticket;
+            log.error("처리하지 못한 대기열 주문 - 티켓: {}, 사용자: {}", ticket.getTicketId(), ticket.getUserEmail());
+            ticket.fail(ErrorCode.INTERNAL_SERVER_ERROR, "서버 종료로 처리하지 못한 주문입니다.");
+        }
+    }
+
+    // 종료 시간을 넘겨 버린 요청의 티켓을 찾을 수 있도록 티켓을 들고 있음
+    private final class QueuedOrder implements Runnable {
+
+        private final OrderTicket ticket;
+        private final CreateOrderRequestDto request;
+
+        private QueuedOrder(OrderTicket ticket, CreateOrderRequestDto request) {
+            this.ticket = ticket;
+            this.request = request;
+        }
+
+        @Override
+        public void run() {
+            process(ticket, request);
+        }
+    }
+
+    private void process(OrderTicket ticket, CreateOrderRequestDto request) {
+        ticket.markProcessing();
+        try {
+            OrderResponseDto response = orderService.createOrder(ticket.getUserEmail(), request);
+            ticket.complete(response.getOrderId());
+        } catch (BusinessException e) {
+            ticket.fail(e.getErrorCode(), e.getMessage());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            ticket.fail(ErrorCode.INVALID_INPUT_VALUE, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("대기열 주문 처리 실패 - 티켓: {}", ticket.getTicketId(), e);
+            ticket.fail(ErrorCode.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.commerce_mvp.application.order.ticket;
+
+public enum OrderTicketStatus {
+    QUEUED,      // 대기열에서 처리 대기 중
+    PROCESSING,  // 워커가 주문 생성 중
+    COMPLETED,   // 주문 생성 완료
+    FAILED       // 주문 생성 실패 (재고 부족 등)
+}
@@ -0,0 +1,34 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.domain.product.CategoryCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 시작 시 카테고리 집계 이관을 실행한다. 버전마다 전체 노드를 통틀어 한 번만 실행되며 (category_count_migrations 기록),
+ * 카테고리가 NULL인 상품을 빈 문자열로 바꾼 뒤 product 테이블에서 집계를 다시 만든다.
+ * 집계 테이블이 생기기 전에 저장된 상품을 반영하기 위한 것이며, 이후에는 상품 저장 시 증가분만 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCountInitializer {
+
+    // 집계 방식이나 카테고리 정규화 규칙이 바뀌면 올려서 한 번 더 실행
+    private static final String MIGRATION_VERSION = "2-empty-categories";
+
+    private final CategoryCountRepository categoryCountRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        int categories = categoryCountRepository.rebuildOnce(MIGRATION_VERSION);
+        if (categories >= 0) {
+            log.info("카테고리별 상품 수 집계 이관 - 버전: {}, 카테고리 수: {}", MIGRATION_VERSION, categories);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.common.cache.BoundedLruCache;
+import com.example.commerce_mvp.application.product.dto.ProductDto;
+import com.example.commerce_mvp.application.product.event.ProductCatalogChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 상품 ID별 ProductDto를 보관하는 LRU 캐시 (노드 로컬 메모리).
+ * 캐시에 없는 ID는 호출자가 넘긴 loader로 한 번에 읽으며, 같은 ID를 이미 다른 요청이 읽고 있으면
+ * 새로 읽지 않고 그 결과를 기다린다 (single-flight). 인기 상품 항목이 만료되어도 DB 조회는 한 번만 나간다.
+ * 존재하지 않는 ID는 캐시하지 않는다.
+ */
+@Component
+public class ProductDetailCache {
+
+    private final BoundedLruCache<Long, ProductDto> entries;
+    // 조회 중인 ID -> 결과 (없는 상품이면 null로 완료)
+    private final Map<Long, CompletableFuture<ProductDto>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    // 다른 요청의 조회 결과를 기다린 경우
+    private final Counter coalescedCounter;
+
+    public ProductDetailCache(@Value("${commerce.product.detail-cache.max-size:10000}") int maxSize,
+                              @Value("${commerce.product.detail-cache.ttl-ms:60000}") long ttlMillis,
+                              MeterRegistry meterRegistry) {
+        this.entries = new BoundedLruCache<>(maxSize, ttlMillis, meterRegistry, "commerce.product.detail-cache", "상품 상세");
+        this.hitCounter = entries.requestCounter("hit");
+        this.missCounter = entries.requestCounter("miss");
+        this.coalescedCounter = entries.requestCounter("coalesced");
+    }
+
+    /**
+     * 여러 상품을 조회한다. 캐시에 없고 다른 요청이 읽고 있지도 않은 ID만 모아 loader를 한 번 호출한다.
+     * 반환값에는 존재하는 상품만 들어 있다.
+     */
+    public Map<Long, ProductDto> getAll(Collection<Long> productIds, Function<List<Long>, Map<Long, ProductDto>> loader) {
+        Map<Long, ProductDto> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductDto product = entries.get(productId);
+            if (product != null) {
+                result.put(productId, product);
+                hitCounter.increment();
+            } else {
+                misses.add(productId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        // 직접 읽을 ID와 이미 다른 요청이 읽고 있는 ID를 나눔
+        Map<Long, CompletableFuture<ProductDto>> owned = new HashMap<>();
+        Map<Long, CompletableFuture<ProductDto>> joined = new HashMap<>();
+        for (Long productId : misses) {
+            CompletableFuture<ProductDto> future = new CompletableFuture<>();
+            CompletableFuture<ProductDto> existing = inFlight.putIfAbsent(productId, future);
+            if (existing == null) {
+                owned.put(productId, future);
+                missCounter.increment();
+            } else {
+                joined.put(productId, existing);
+                coalescedCounter.increment();
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            load(owned, loader);
+        }
+        owned.forEach((productId, future) -> putIfPresent(result, productId, future.join()));
+        joined.forEach((productId, future) -> putIfPresent(result, productId, await(future)));
+        return result;
+    }
+
+    // 변경된 상품만 제거 (커밋 이후에만 반영)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(ProductCatalogChangedEvent event) {
+        if (event.productIds().isEmpty()) {
+            return;
+        }
+        event.productIds().forEach(entries::invalidate);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void load(Map<Long, CompletableFuture<ProductDto>> owned,
+                      Function<List<Long>, Map<Long, ProductDto>> loader) {
+        long version = entries.version();
+        try {
+            Map<Long, ProductDto> loaded = loader.apply(new ArrayList<>(owned.keySet()));
+            loaded.forEach((productId, product) -> entries.put(productId, product, version));
+            owned.forEach((productId, future) -> future.complete(loaded.get(productId)));
+        } catch (RuntimeException e) {
+            owned.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        } finally {
+            owned.forEach(inFlight::remove);
+        }
+    }
+
+    // 다른 요청의 조회 결과를 기다림 (그 조회가 실패하면 같은 예외를 던짐)
+    private static ProductDto await(CompletableFuture<ProductDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void putIfPresent(Map<Long, ProductDto> result, Long productId, ProductDto product) {
+        if (product != null) {
+            result.put(productId, product);
+        }
+    }
+}
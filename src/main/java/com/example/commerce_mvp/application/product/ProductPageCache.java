@@ -0,0 +1,87 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.common.cache.BoundedLruCache;
+import com.example.commerce_mvp.application.product.event.ProductCatalogChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * 상품 목록 페이지(cursorId, size)의 직렬화된 JSON 응답을 보관하는 LRU 캐시 (노드 로컬 메모리).
+ * 각 항목은 자신이 담은 상품 ID 구간 (cursorId, lastId]을 기억하고, 변경된 상품 ID가 그 구간에 들어가는 항목만 제거한다.
+ * 마지막 페이지는 구간 끝이 열려 있어 새로 추가된 상품(항상 더 큰 ID)이 생기면 함께 제거된다.
+ * 목록에 재고가 노출되지 않으므로 재고 변경으로는 무효화하지 않는다.
+ */
+@Component
+public class ProductPageCache {
+
+    private final BoundedLruCache<PageKey, Entry> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ProductPageCache(@Value("${commerce.product.page-cache.max-size:1000}") int maxSize,
+                            @Value("${commerce.product.page-cache.ttl-ms:300000}") long ttlMillis,
+                            MeterRegistry meterRegistry) {
+        this.entries = new BoundedLruCache<>(maxSize, ttlMillis, meterRegistry, "commerce.product.page-cache", "상품 목록 페이지");
+        this.hitCounter = entries.requestCounter("hit");
+        this.missCounter = entries.requestCounter("miss");
+    }
+
+    public boolean isEnabled() {
+        return entries.isEnabled();
+    }
+
+    // 캐시된 JSON이 있으면 그대로, 없으면 loader로 만들어 캐시한 뒤 반환
+    public byte[] get(long cursorId, int size, Supplier<Page> loader) {
+        if (!isEnabled()) {
+            return loader.get().json();
+        }
+        PageKey key = new PageKey(cursorId, size);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hitCounter.increment();
+            return entry.json();
+        }
+        missCounter.increment();
+
+        long version = entries.version();
+        Page page = loader.get();
+        entries.put(key, new Entry(cursorId, page.lastId(), page.json()), version);
+        return page.json();
+    }
+
+    // 바뀐 상품 ID를 담고 있는(또는 담게 될) 페이지만 제거 (커밋 이후에만 반영)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(ProductCatalogChangedEvent event) {
+        if (!isEnabled() || event.productIds().isEmpty()) {
+            return;
+        }
+        entries.invalidateIf(entry -> event.productIds().stream().anyMatch(entry::covers));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시에 넣을 페이지.
+     * lastId는 페이지에 담긴 마지막 상품 ID이며, 다음 페이지가 없으면 이후 추가될 상품까지 포함하도록 Long.MAX_VALUE로 둔다.
+     */
+    public record Page(byte[] json, long lastId) {
+    }
+
+    private record PageKey(long cursorId, int size) {
+    }
+
+    private record Entry(long cursorId, long lastId, byte[] json) {
+
+        boolean covers(Long productId) {
+            return productId > cursorId && productId <= lastId;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.product.event.ProductCatalogChangedEvent;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.product.ProductSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * 상품 이름과 카테고리(category1, category2)를 대상으로 하는 노드 로컬 역색인.
+ * 텍스트는 NFKC 정규화 + 소문자 변환 후 글자/숫자만 남기고 이어 붙여 글자 2-gram을 색인어로 쓴다
+ * (한 글자뿐인 필드는 그 글자 하나). 띄어쓰기가 달라도 한국어 부분 문자열로 찾을 수 있도록 하기 위함이며,
+ * 같은 이유로 검색어도 두 글자 이상이어야 의미 있는 결과가 나온다.
+ *
+ * 색인어마다 문서 번호 증가분(varint)과 필드 비트를 byte 배열에 이어 붙여 보관하며,
+ * 검색은 모든 색인어를 포함한 상품만 대상으로 idf x 필드 가중치(이름 2, 카테고리 1) 합계가 높은 순서로 상위 limit개를 고른다.
+ * 애플리케이션 시작 시 DB에서 전체를 읽어 만들고, 이후에는 ProductCatalogChangedEvent로 추가된 상품만 덧붙인다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final int NAME = 1;
+    private static final int CATEGORY1 = 1 << 1;
+    private static final int CATEGORY2 = 1 << 2;
+
+    // 점수가 같으면 최근에 추가된 상품(문서 번호가 큰 쪽)을 위로
+    private static final Comparator<Hit> HIT_ORDER = Comparator.comparingDouble(Hit::score).thenComparingInt(Hit::doc);
+
+    private final ProductRepository productRepository;
+    private final int buildBatchSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 색인어(두 글자를 합친 int) -> 게시 목록
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    // 문서 번호 -> 상품 ID
+    private long[] productIds = new long[1024];
+    private int documentCount;
+    // 이미 색인한 상품 ID (시작 시 전체 적재와 추가 이벤트가 겹쳐도 한 번만 색인)
+    private final BitSet indexed = new BitSet();
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              @Value("${commerce.product.search-index.build-batch-size:1000}") int buildBatchSize,
+                              MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.buildBatchSize = buildBatchSize;
+        Gauge.builder("commerce.product.search-index.documents", this, ProductSearchIndex::size)
+                .description("검색 색인에 들어 있는 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("commerce.product.search-index.terms", this, ProductSearchIndex::termCount)
+                .description("검색 색인의 색인어(2-gram) 수")
+                .register(meterRegistry);
+    }
+
+    // 시작 시 상품 ID 순서로 나눠 읽으며 색인 (읽는 동안에도 이미 색인된 상품은 검색됨)
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        PageRequest batch = PageRequest.of(0, buildBatchSize);
+        long cursorId = 0;
+        List<ProductSummary> products;
+        do {
+            products = productRepository.findSummariesAfter(cursorId, batch);
+            addAll(products);
+            if (!products.isEmpty()) {
+                cursorId = products.get(products.size() - 1).id();
+            }
+        } while (products.size() == buildBatchSize);
+        log.info("상품 검색 색인 생성 완료 - 상품 수: {}, 색인어 수: {}, 소요 시간: {}ms",
+                size(), termCount(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 새로 저장된 상품을 색인에 추가 (커밋 이후에만 반영)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(ProductCatalogChangedEvent event) {
+        if (event.productIds().isEmpty()) {
+            return;
+        }
+        addAll(productRepository.findSummariesByIds(event.productIds()));
+    }
+
+    /**
+     * 검색어의 색인어를 모두 포함한 상품 ID를 점수 순서로 최대 limit개 반환한다.
+     * 색인에 없는 색인어가 하나라도 있으면 빈 목록을 반환한다.
+     */
+    public List<Long> search(String query, int limit) {
+        Set<Integer> terms = new LinkedHashSet<>();
+        forEachTerm(query, terms::add);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Cursor[] cursors = new Cursor[terms.size()];
+            int i = 0;
+            for (Integer term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                cursors[i++] = new Cursor(list, Math.log(1 + (double) documentCount / list.count));
+            }
+            // 가장 짧은 게시 목록을 기준으로 나머지를 따라가며 교집합을 구함
+            Arrays.sort(cursors, Comparator.comparingInt(cursor -> cursor.postings.count));
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, HIT_ORDER);
+            Cursor lead = cursors[0];
+            candidates:
+            while (lead.next()) {
+                int doc = lead.doc;
+                for (int j = 1; j < cursors.length; j++) {
+                    if (!cursors[j].advance(doc)) {
+                        break candidates;
+                    }
+                    if (cursors[j].doc != doc) {
+                        continue candidates;
+                    }
+                }
+                double score = 0;
+                for (Cursor cursor : cursors) {
+                    score += cursor.idf * fieldWeight(cursor.fields);
+                }
+                top.offer(new Hit(doc, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(HIT_ORDER.reversed());
+            List<Long> result = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                result.add(productIds[hit.doc()]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void addAll(List<ProductSummary> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            products.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(ProductSummary product) {
+        int id = Math.toIntExact(product.id());
+        if (indexed.get(id)) {
+            return;
+        }
+        indexed.set(id);
+
+        // 한 상품 안에서 같은 색인어는 필드 비트만 합쳐서 한 번만 기록
+        Map<Integer, Integer> fields = new HashMap<>();
+        forEachTerm(product.name(), term -> fields.merge(term, NAME, (a, b) -> a | b));
+        forEachTerm(product.category1(), term -> fields.merge(term, CATEGORY1, (a, b) -> a | b));
+        forEachTerm(product.category2(), term -> fields.merge(term, CATEGORY2, (a, b) -> a | b));
+
+        int doc = documentCount++;
+        if (doc == productIds.length) {
+            productIds = Arrays.copyOf(productIds, doc * 2);
+        }
+        productIds[doc] = product.id();
+        fields.forEach((term, mask) -> postings.computeIfAbsent(term, key -> new Postings()).append(doc, mask));
+    }
+
+    private static double fieldWeight(int fields) {
+        return ((fields & NAME) != 0 ? 2 : 0)
+                + ((fields & CATEGORY1) != 0 ? 1 : 0)
+                + ((fields & CATEGORY2) != 0 ? 1 : 0);
+    }
+
+    // 글자/숫자만 이어 붙인 뒤 2-gram을 만든다 (한 글자뿐이면 그 글자 하나)
+    static void forEachTerm(String text, IntConsumer consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        char previous = 0;
+        int letters = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char current = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(current)) {
+                continue;
+            }
+            if (letters++ > 0) {
+                consumer.accept(previous << 16 | current);
+            }
+            previous = current;
+        }
+        if (letters == 1) {
+            consumer.accept(previous << 16);
+        }
+    }
+
+    /**
+     * 한 색인어의 게시 목록. 문서 번호는 항상 증가하는 순서로만 추가되므로
+     * 직전 문서 번호와의 차이를 varint로, 그 뒤에 필드 비트 1바이트를 기록한다.
+     */
+    private static final class Postings {
+
+        private byte[] data = new byte[8];
+        private int length;
+        private int count;
+        private int lastDoc = -1;
+
+        void append(int doc, int fields) {
+            if (length + 6 > data.length) {
+                data = Arrays.copyOf(data, Math.max(length + 6, data.length + (data.length >> 1)));
+            }
+            int delta = doc - lastDoc;
+            while ((delta & ~0x7F) != 0) {
+                data[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[length++] = (byte) delta;
+            data[length++] = (byte) fields;
+            lastDoc = doc;
+            count++;
+        }
+    }
+
+    // 게시 목록을 앞에서부터 풀어 읽는 커서
+    private static final class Cursor {
+
+        private final Postings postings;
+        private final double idf;
+        private int offset;
+        private int doc = -1;
+        private int fields;
+
+        Cursor(Postings postings, double idf) {
+            this.postings = postings;
+            this.idf = idf;
+        }
+
+        boolean next() {
+            if (offset >= postings.length) {
+                return false;
+            }
+            byte[] data = postings.data;
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            doc += delta;
+            fields = data[offset++];
+            return true;
+        }
+
+        // target 이상인 문서까지 이동 (목록 끝이면 false)
+        boolean advance(int target) {
+            while (doc < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record Hit(int doc, double score) {
+    }
+}
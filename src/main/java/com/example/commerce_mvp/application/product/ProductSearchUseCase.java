@@ -1,11 +1,15 @@
 package com.example.commerce_mvp.application.product;
 
 import com.example.commerce_mvp.application.product.dto.ProductDto;
+import com.example.commerce_mvp.application.product.event.ProductCatalogChangedEvent;
+import com.example.commerce_mvp.domain.product.CategoryCountRepository;
 import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductCategory;
 import com.example.commerce_mvp.domain.product.ProductRepository;
 import com.example.commerce_mvp.infrastructure.naver.NaverApiClient;
 import com.example.commerce_mvp.infrastructure.naver.NaverSearchResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +22,8 @@ import java.util.stream.Collectors;
 public class ProductSearchUseCase {
     private final NaverApiClient naverApiClient;
     private final ProductRepository productRepository;
+    private final CategoryCountRepository categoryCountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     //저장이라는 책임만 함.
     @Transactional
@@ -29,7 +35,15 @@ public class ProductSearchUseCase {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
         if(!productsToSave.isEmpty()){
-            productRepository.saveAll(productsToSave);
+            List<Product> savedProducts = productRepository.saveAll(productsToSave);
+            // 카테고리별 상품 수를 같은 트랜잭션에서 증가
+            categoryCountRepository.increment(productsToSave.stream()
+                    .collect(Collectors.groupingBy(
+                            product -> new ProductCategory(product.getCategory1(), product.getCategory2()),
+                            Collectors.summingInt(product -> 1))));
+            // 커밋 이후 새 상품이 들어갈 목록 페이지만 캐시에서 제거
+            eventPublisher.publishEvent(ProductCatalogChangedEvent.of(
+                    savedProducts.stream().map(Product::getId).collect(Collectors.toList())));
         }
     }
 
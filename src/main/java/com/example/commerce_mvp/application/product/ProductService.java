@@ -1,16 +1,29 @@
 package com.example.commerce_mvp.application.product;
 
 import com.example.commerce_mvp.application.common.dto.SliceResponse;
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.common.util.CategoryCursor;
+import com.example.commerce_mvp.application.product.dto.CategoryCountDto;
 import com.example.commerce_mvp.application.product.dto.ProductDto;
-import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.CategoryCount;
+import com.example.commerce_mvp.domain.product.CategoryCountRepository;
 import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.product.ProductSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,26 +32,183 @@ import java.util.stream.Collectors;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductPageCache productPageCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductDetailCache productDetailCache;
+    private final CategoryCountRepository categoryCountRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 상품 목록 페이지를 직렬화된 JSON으로 반환한다.
+     * 캐시 적중 시에는 트랜잭션을 열지 않으므로 JPA 조회와 Jackson 직렬화를 모두 생략한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public byte[] getProductListJson(Long cursorId, int size) {
+        long cursor = cursorId == null ? 0 : cursorId;
+        return productPageCache.get(cursor, size, () -> {
+            SliceResponse<ProductDto> response = getProductList(cursorId, size);
+            long lastId = response.isHasNext() ? Long.parseLong(response.getNextCursor()) : Long.MAX_VALUE;
+            return new ProductPageCache.Page(serialize(response), lastId);
+        });
+    }
+
+    /**
+     * 여러 상품을 요청한 순서대로 반환한다 (중복 ID는 한 번, 없는 상품은 제외).
+     * 캐시에 없는 상품만 IN 조회 한 번으로 읽고, 같은 상품을 동시에 읽는 요청은 하나의 조회 결과를 함께 쓴다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ProductDto> getProducts(List<Long> productIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(productIds);
+        Map<Long, ProductDto> products = productDetailCache.getAll(distinctIds, this::loadProducts);
+        return distinctIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductDto getProduct(Long productId) {
+        ProductDto product = productDetailCache.getAll(List.of(productId), this::loadProducts).get(productId);
+        if (product == null) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + productId);
+        }
+        return product;
+    }
 
     public SliceResponse<ProductDto> getProductList(Long cursorId, int size){
-        PageRequest pageRequest = PageRequest.of(0, size+1);
+        // 한 건 더 조회해서 다음 페이지 여부 판단 (프로젝션이라 추가 한 건도 엔티티 적재 없이 컬럼만 읽음)
+        PageRequest limit = PageRequest.of(0, size + 1);
 
-        Slice<Product> productSlice = (cursorId == null || cursorId==0)
-                ? productRepository.findAllByOrderByIdAsc(pageRequest)
-                : productRepository.findProductsAfterCursor(cursorId, pageRequest);
+        List<ProductSummary> summaries = (cursorId == null || cursorId==0)
+                ? productRepository.findSummaries(limit)
+                : productRepository.findSummariesAfter(cursorId, limit);
 
-        List<Product> products = productSlice.getContent();
-        boolean hasNext = products.size() > size;
+        boolean hasNext = summaries.size() > size;
 
-        List<ProductDto> content = products.stream()
-                .map(ProductDto::new)
+        List<ProductDto> content = summaries.stream()
                 .limit(size)
+                .map(ProductDto::new)
                 .collect(Collectors.toList());
 
-        Long nextCursor = null;
+        String nextCursor = null;
         if(hasNext && !content.isEmpty()){
-            nextCursor = content.get(content.size()-1).getProductId();
+            nextCursor = String.valueOf(content.get(content.size()-1).getProductId());
+        }
+        return new SliceResponse<>(content, hasNext, nextCursor);
+    }
+
+    /**
+     * 카테고리별 상품 목록 (키셋 페이징, count 쿼리 없음).
+     * category2가 있으면 그 카테고리 안에서 id 순서, 없으면 대분류 전체를 (category2, id) 순서로 내려준다.
+     */
+    public SliceResponse<ProductDto> getProductsByCategory(String category1, String category2, String cursor, int size) {
+        CategoryCursor after = CategoryCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<ProductSummary> summaries;
+        if (category2 != null) {
+            summaries = productRepository.findSummariesByCategoryAfter(
+                    category1, category2, after == null ? 0L : after.id(), limit);
+        } else if (after == null) {
+            summaries = productRepository.findFirstSummariesByCategory1(category1, limit);
+        } else {
+            summaries = productRepository.findSummariesByCategory1After(category1, after.category2(), after.id(), limit);
+        }
+
+        boolean hasNext = summaries.size() > size;
+        List<ProductSummary> page = hasNext ? summaries.subList(0, size) : summaries;
+        List<ProductDto> content = page.stream()
+                .map(ProductDto::new)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProductSummary last = page.get(page.size() - 1);
+            nextCursor = new CategoryCursor(last.category2(), last.id()).encode();
+        }
+        return new SliceResponse<>(content, hasNext, nextCursor);
+    }
+
+    /**
+     * 정렬된 상품 목록 (가격 구간 필터, 키셋 페이징).
+     * 커서에 (정렬 키, id)를 담아 마지막으로 본 위치 다음부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     * 최신순은 가격 구간을 받지 않는다 - id 순서와 가격 범위를 함께 만족하는 인덱스가 없어 구간이 좁으면 많은 행을 건너뛰게 된다.
+     */
+    public SliceResponse<ProductDto> getSortedProducts(ProductSort sort, Integer minPrice, Integer maxPrice,
+                                                       String cursor, int size) {
+        int min = minPrice == null ? 0 : minPrice;
+        int max = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+        if (min > max) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "최소 가격이 최대 가격보다 큽니다.");
+        }
+        if (sort == ProductSort.NEWEST && (minPrice != null || maxPrice != null)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "최신순 정렬에서는 가격 구간을 지정할 수 없습니다.");
+        }
+        ProductSortCursor after = ProductSortCursor.decode(cursor, sort);
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<ProductSummary> summaries = switch (sort) {
+            case PRICE_ASC -> after == null
+                    ? productRepository.findSummariesByPriceAsc(min, max, limit)
+                    : productRepository.findSummariesByPriceAscAfter(min, max, (int) after.sortKey(), after.id(), limit);
+            case PRICE_DESC -> after == null
+                    ? productRepository.findSummariesByPriceDesc(min, max, limit)
+                    : productRepository.findSummariesByPriceDescAfter(min, max, (int) after.sortKey(), after.id(), limit);
+            case NEWEST -> productRepository.findSummariesNewestBefore(
+                    after == null ? Long.MAX_VALUE : after.id(), limit);
+        };
+
+        boolean hasNext = summaries.size() > size;
+        List<ProductSummary> page = hasNext ? summaries.subList(0, size) : summaries;
+        List<ProductDto> content = page.stream()
+                .map(ProductDto::new)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProductSummary last = page.get(page.size() - 1);
+            long sortKey = sort == ProductSort.NEWEST ? last.id() : last.price();
+            nextCursor = new ProductSortCursor(sort, sortKey, last.id()).encode();
         }
         return new SliceResponse<>(content, hasNext, nextCursor);
     }
+
+    // 카테고리별 상품 수 (미리 집계된 테이블만 읽음), category1이 있으면 그 아래 중분류만
+    public List<CategoryCountDto> getCategoryCounts(String category1) {
+        List<CategoryCount> counts = category1 == null
+                ? categoryCountRepository.findAllByOrderByCategory1AscCategory2Asc()
+                : categoryCountRepository.findByCategory1OrderByCategory2Asc(category1);
+        return counts.stream()
+                .map(CategoryCountDto::new)
+                .collect(Collectors.toList());
+    }
+
+    // 역색인에서 순위를 매긴 상품 ID를 받아 한 번의 IN 조회로 채움 (LIKE 검색 없음)
+    public List<ProductDto> searchProducts(String query, int size) {
+        List<Long> productIds = productSearchIndex.search(query, size);
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductSummary> summaries = productRepository.findSummariesByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductSummary::id, Function.identity()));
+        return productIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(ProductDto::new)
+                .collect(Collectors.toList());
+    }
+
+    // 캐시에 없는 상품을 프로젝션 IN 조회 한 번으로 읽음
+    private Map<Long, ProductDto> loadProducts(List<Long> productIds) {
+        return productRepository.findSummariesByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductSummary::id, ProductDto::new));
+    }
+
+    private byte[] serialize(SliceResponse<ProductDto> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 목록 직렬화 실패", e);
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.example.commerce_mvp.application.product;
+
+// 상품 목록 정렬 (모두 id를 두 번째 정렬 키로 써서 순서가 항상 하나로 정해짐)
+public enum ProductSort {
+    // 가격 낮은 순 (idx_product_price 정방향)
+    PRICE_ASC,
+    // 가격 높은 순 (idx_product_price 역방향)
+    PRICE_DESC,
+    // 최신 등록 순 (IDENTITY id가 등록 순서이므로 기본 키 역방향, 가격 구간 필터 없음)
+    NEWEST
+}
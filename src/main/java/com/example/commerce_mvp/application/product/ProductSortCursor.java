@@ -0,0 +1,47 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 정렬된 상품 목록의 (정렬 키, id) 키셋 커서.
+ * 다른 정렬의 커서를 잘못 넘기면 엉뚱한 위치부터 읽게 되므로 정렬 종류도 함께 담아 디코딩할 때 확인한다.
+ */
+public record ProductSortCursor(ProductSort sort, long sortKey, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지 (null 반환)
+    public static ProductSortCursor decode(String cursor, ProductSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                throw new IllegalArgumentException("정렬이 다른 커서입니다.");
+            }
+            long sortKey = Long.parseLong(parts[1]);
+            long id = Long.parseLong(parts[2]);
+            // 조작된 커서가 int 가격으로 바꿀 때 넘치거나 최신순 키가 id와 어긋나지 않도록 범위를 확인
+            boolean validKey = sort == ProductSort.NEWEST
+                    ? sortKey == id
+                    : sortKey >= 0 && sortKey <= Integer.MAX_VALUE;
+            if (id <= 0 || !validKey) {
+                throw new IllegalArgumentException("커서 값이 범위를 벗어났습니다.");
+            }
+            return new ProductSortCursor(sort, sortKey, id);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다: " + cursor);
+        }
+    }
+}
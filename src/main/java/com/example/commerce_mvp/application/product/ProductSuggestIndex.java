@@ -0,0 +1,200 @@
+package com.example.commerce_mvp.application.product;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 상품 이름 자동완성용 읽기 전용 색인 (한 번 만들면 바뀌지 않으며, 갱신은 새로 만들어 통째로 교체한다).
+ * 정규화한 이름(NFKC, 소문자, 연속 공백 하나로)을 정렬된 배열로 보관하므로 트라이의 각 노드는 배열의 연속 구간이 된다.
+ * 이름이 scanLimit개보다 많이 모인 노드(접두어)만 인기도 상위 topK개를 미리 계산해 두고,
+ * 나머지 노드는 구간이 scanLimit개 이하이므로 조회 시 바로 훑어서 고른다.
+ */
+public final class ProductSuggestIndex {
+
+    public static final ProductSuggestIndex EMPTY = build(List.of(), 1, 1);
+
+    // 인기도 내림차순, 같으면 이름 오름차순 (정렬된 배열에서는 인덱스 오름차순)
+    private final Comparator<Integer> ranking;
+
+    private final String[] keys;
+    private final String[] names;
+    private final long[] weights;
+    private final Map<String, int[]> topByPrefix;
+    private final int topK;
+    private final long estimatedBytes;
+
+    private ProductSuggestIndex(String[] keys, String[] names, long[] weights, int topK, int scanLimit) {
+        this.keys = keys;
+        this.names = names;
+        this.weights = weights;
+        this.topK = topK;
+        this.ranking = Comparator.<Integer>comparingLong(i -> -this.weights[i]).thenComparingInt(i -> i);
+        this.topByPrefix = cacheTopByPrefix(scanLimit);
+        this.estimatedBytes = estimateBytes();
+    }
+
+    /**
+     * 이름과 인기도 목록으로 색인을 만든다. 정규화 결과가 같은 이름은 인기도가 가장 높은 것 하나만 남긴다.
+     */
+    public static ProductSuggestIndex build(Collection<Suggestion> suggestions, int topK, int scanLimit) {
+        Map<String, Suggestion> byKey = new HashMap<>();
+        for (Suggestion suggestion : suggestions) {
+            String key = normalize(suggestion.name());
+            if (!key.isEmpty()) {
+                byKey.merge(key, suggestion, (a, b) -> b.weight() > a.weight() ? b : a);
+            }
+        }
+        String[] keys = byKey.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+
+        String[] names = new String[keys.length];
+        long[] weights = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Suggestion suggestion = byKey.get(keys[i]);
+            // 표시 이름이 정규화 결과와 같으면 같은 문자열을 공유
+            names[i] = suggestion.name().strip().equals(keys[i]) ? keys[i] : suggestion.name().strip();
+            weights[i] = suggestion.weight();
+        }
+        return new ProductSuggestIndex(keys, names, weights, topK, Math.max(topK, scanLimit));
+    }
+
+    // prefix로 시작하는 이름을 인기도 순서로 최대 limit개 반환
+    public List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int from = lowerBound(key);
+        int to = lowerBound(key + Character.MAX_VALUE);
+        if (from >= to) {
+            return List.of();
+        }
+
+        int[] top = topByPrefix.get(key);
+        if (top == null) {
+            top = topOf(from, to, topK);
+        }
+        List<String> result = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && i < limit; i++) {
+            result.add(names[top[i]]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public int cachedPrefixCount() {
+        return topByPrefix.size();
+    }
+
+    // 배열, 문자열, 접두어 캐시를 합한 대략적인 힙 사용량 (64비트 JVM, 압축 참조 기준)
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .strip()
+                .replaceAll("\\s+", " ");
+    }
+
+    // 루트부터 한 글자씩 내려가며 scanLimit개를 넘는 노드(같은 접두어로 묶이는 연속 구간)만 상위 목록을 저장
+    private Map<String, int[]> cacheTopByPrefix(int scanLimit) {
+        Map<String, int[]> cache = new HashMap<>();
+        // {from, to, 접두어 길이}
+        Deque<int[]> nodes = new ArrayDeque<>();
+        nodes.push(new int[]{0, keys.length, 0});
+        while (!nodes.isEmpty()) {
+            int[] node = nodes.pop();
+            int length = node[2] + 1;
+            int i = node[0];
+            while (i < node[1]) {
+                if (keys[i].length() < length) {
+                    i++;
+                    continue;
+                }
+                String prefix = keys[i].substring(0, length);
+                int end = i + 1;
+                while (end < node[1] && keys[end].startsWith(prefix)) {
+                    end++;
+                }
+                if (end - i > scanLimit) {
+                    cache.put(prefix, topOf(i, end, topK));
+                    nodes.push(new int[]{i, end, length});
+                }
+                i = end;
+            }
+        }
+        return cache;
+    }
+
+    // [from, to) 구간에서 인기도 상위 limit개의 인덱스 (크기 limit의 힙으로 선택)
+    private int[] topOf(int from, int to, int limit) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, ranking.reversed());
+        for (int i = from; i < to; i++) {
+            heap.offer(i);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        int[] top = new int[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = heap.poll();
+        }
+        return top;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private long estimateBytes() {
+        long bytes = arrayBytes(keys.length, 4) * 2 + arrayBytes(weights.length, 8);
+        for (int i = 0; i < keys.length; i++) {
+            bytes += stringBytes(keys[i]);
+            if (names[i] != keys[i]) {
+                bytes += stringBytes(names[i]);
+            }
+        }
+        // HashMap 노드(32) + 테이블 칸(4) + 접두어 문자열 + 상위 목록 배열
+        bytes += arrayBytes(topByPrefix.size() * 2L, 4);
+        for (Map.Entry<String, int[]> entry : topByPrefix.entrySet()) {
+            bytes += 32 + stringBytes(entry.getKey()) + arrayBytes(entry.getValue().length, 4);
+        }
+        return bytes;
+    }
+
+    private static long arrayBytes(long length, int elementBytes) {
+        return align(16 + length * elementBytes);
+    }
+
+    // String 객체(24) + 내부 byte[] (LATIN1이면 글자당 1바이트, 한글 등은 2바이트)
+    private static long stringBytes(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        return 24 + arrayBytes(value.length(), latin1 ? 1 : 2);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    // 색인에 넣을 이름과 인기도 (누적 주문 수량)
+    public record Suggestion(String name, long weight) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.domain.order.OrderRepository;
+import com.example.commerce_mvp.domain.order.OrderStatus;
+import com.example.commerce_mvp.domain.order.ProductSales;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.product.ProductSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 이름 자동완성.
+ * 전용 백그라운드 스레드가 주기적으로 상품 이름과 누적 주문 수량을 읽어 ProductSuggestIndex를 새로 만들고 참조를 교체한다.
+ * 조회는 그 시점의 색인만 읽으므로 재생성 중에도 기다리지 않는다 (첫 생성이 끝나기 전에는 빈 결과).
+ */
+@Slf4j
+@Service
+public class ProductSuggestService {
+
+    // 인기도에서 제외하는 주문 상태
+    private static final List<OrderStatus> EXCLUDED_STATUSES = List.of(OrderStatus.CANCELLED, OrderStatus.REFUNDED);
+
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final int topK;
+    private final int scanLimit;
+    private final int loadBatchSize;
+    private final long rebuildIntervalMillis;
+    private volatile ProductSuggestIndex index = ProductSuggestIndex.EMPTY;
+    private ScheduledExecutorService rebuilder;
+
+    public ProductSuggestService(ProductRepository productRepository,
+                                 OrderRepository orderRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${commerce.product.suggest.top-k:10}") int topK,
+                                 @Value("${commerce.product.suggest.scan-limit:256}") int scanLimit,
+                                 @Value("${commerce.product.suggest.load-batch-size:1000}") int loadBatchSize,
+                                 @Value("${commerce.product.suggest.rebuild-interval-ms:600000}") long rebuildIntervalMillis) {
+        this.productRepository = productRepository;
+        this.orderRepository = orderRepository;
+        this.topK = topK;
+        this.scanLimit = scanLimit;
+        this.loadBatchSize = loadBatchSize;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        Gauge.builder("commerce.product.suggest.names", this, service -> service.index.size())
+                .description("자동완성 색인에 들어 있는 상품 이름 수")
+                .register(meterRegistry);
+        Gauge.builder("commerce.product.suggest.memory", this, service -> service.index.estimatedBytes())
+                .description("자동완성 색인의 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // 공용 스케줄러 스레드를 오래 붙잡지 않도록 전용 스레드에서 재생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-suggest-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuilder.scheduleWithFixedDelay(this::rebuildQuietly, 0, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    public List<String> suggest(String prefix, int size) {
+        return index.suggest(prefix, Math.min(size, topK));
+    }
+
+    // 상품 이름과 인기도를 모두 읽어 새 색인을 만든 뒤 한 번에 교체
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, Long> popularity = new HashMap<>();
+        for (ProductSales sales : orderRepository.sumQuantityByProduct(EXCLUDED_STATUSES)) {
+            popularity.put(sales.productId(), sales.quantity());
+        }
+
+        List<ProductSuggestIndex.Suggestion> suggestions = new ArrayList<>();
+        PageRequest batch = PageRequest.of(0, loadBatchSize);
+        long cursorId = 0;
+        List<ProductSummary> products;
+        do {
+            products = productRepository.findSummariesAfter(cursorId, batch);
+            for (ProductSummary product : products) {
+                suggestions.add(new ProductSuggestIndex.Suggestion(product.name(), popularity.getOrDefault(product.id(), 0L)));
+            }
+            if (!products.isEmpty()) {
+                cursorId = products.get(products.size() - 1).id();
+            }
+        } while (products.size() == loadBatchSize);
+
+        ProductSuggestIndex rebuilt = ProductSuggestIndex.build(suggestions, topK, scanLimit);
+        index = rebuilt;
+
+        long bytesPerMillion = rebuilt.size() == 0 ? 0 : rebuilt.estimatedBytes() * 1_000_000 / rebuilt.size();
+        log.info("자동완성 색인 교체 - 이름 수: {}, 캐시된 접두어 수: {}, 추정 메모리: {}KB (이름 백만 개당 {}MB), 소요 시간: {}ms",
+                rebuilt.size(), rebuilt.cachedPrefixCount(), rebuilt.estimatedBytes() / 1024,
+                bytesPerMillion / (1024 * 1024), System.currentTimeMillis() - startedAt);
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 실패하면 이전 색인을 그대로 쓰고 다음 주기에 다시 시도
+            log.warn("자동완성 색인 재생성 실패", e);
+        }
+    }
+}
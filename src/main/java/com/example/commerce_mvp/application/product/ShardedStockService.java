@@ -0,0 +1,180 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.inventory.StockReservationEngine;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.product.ProductStockBucket;
+import com.example.commerce_mvp.domain.product.ProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 핫 상품(플래시 세일) 재고를 N개의 버킷 행으로 나눠 관리한다.
+ * 차감은 임의의 버킷 하나에 조건부 UPDATE를 보내므로 같은 상품의 주문이 버킷 수만큼 병렬로 처리된다.
+ * reservation-engine 전략에서는 분할 적용/해제를 막는다 - 엔진은 메모리 카운터를 기준으로 재고를 수락하므로
+ * 반영 전 변동분이 남은 재고 컬럼을 버킷으로 옮기거나 되돌리면 같은 재고를 두 번 팔게 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ShardedStockService {
+
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository bucketRepository;
+    private final ObjectProvider<StockReservationEngine> reservationEngine;
+
+    // 재고 차감 (주문 트랜잭션 안에서 호출, 실패 시 예외로 전체 주문 롤백)
+    public void decrease(Product product, int quantity) {
+        Long productId = product.getId();
+
+        // 요청 수량을 감당할 수 있는 버킷 중 임의의 위치부터 시도해 버킷 간 경합을 분산
+        List<Integer> candidates = bucketRepository.findBucketIndexesWithStock(productId, quantity);
+        if (!candidates.isEmpty()) {
+            int start = ThreadLocalRandom.current().nextInt(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                int bucketIndex = candidates.get((start + i) % candidates.size());
+                if (bucketRepository.decreaseStockIfAvailable(productId, bucketIndex, quantity) == 1) {
+                    return;
+                }
+            }
+        }
+
+        // 단일 버킷으로 충족할 수 없으면 모든 버킷을 잠그고 나눠서 차감
+        List<ProductStockBucket> buckets = bucketRepository.findByProductIdWithLock(productId);
+        int totalStock = buckets.stream().mapToInt(ProductStockBucket::getStock).sum();
+        if (totalStock < quantity) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK,
+                    "재고가 부족합니다. 상품: " + product.getName() + ", 요청 수량: " + quantity + ", 재고: " + totalStock);
+        }
+        int remaining = quantity;
+        for (ProductStockBucket bucket : buckets) {
+            int taken = Math.min(remaining, bucket.getStock());
+            if (taken > 0) {
+                bucket.decreaseStock(taken);
+                remaining -= taken;
+            }
+            if (remaining == 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 재고 복구 (임의의 버킷에 더함, 치우침은 재분배 작업이 정리).
+     * 읽어 둔 상품 이후에 분할이 해제되어 버킷이 없으면 상품 재고 컬럼에 더하고,
+     * 버킷 수가 바뀌었으면 항상 존재하는 0번 버킷에 더한다. 어디에도 더하지 못하면 예외로 롤백해 다시 시도하게 한다.
+     */
+    public void increase(Product product, int quantity) {
+        Long productId = product.getId();
+        int bucketIndex = ThreadLocalRandom.current().nextInt(product.getStockBucketCount());
+        if (bucketRepository.increaseStock(productId, bucketIndex, quantity) == 1) {
+            return;
+        }
+        // 분할 해제 트랜잭션과는 상품 행 잠금으로 직렬화됨
+        if (productRepository.applyStockDelta(productId, quantity) == 1) {
+            log.info("분할 해제된 상품의 재고를 상품 재고 컬럼에 복구 - 상품 ID: {}, 수량: {}", productId, quantity);
+            return;
+        }
+        if (bucketIndex != 0 && bucketRepository.increaseStock(productId, 0, quantity) == 1) {
+            return;
+        }
+        throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                "재고를 복구할 버킷을 찾을 수 없습니다. 상품 ID: " + productId + ", 수량: " + quantity);
+    }
+
+    // 상품 재고를 버킷으로 분할 (관리자 전용)
+    public void enableSharding(Long productId, int bucketCount) {
+        rejectIfReservationEngine();
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + productId));
+        if (product.isStockSharded()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 재고가 분할된 상품입니다: " + productId);
+        }
+
+        int totalStock = product.enableStockSharding(bucketCount);
+        List<ProductStockBucket> buckets = new ArrayList<>(bucketCount);
+        int[] shares = distribute(totalStock, bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(ProductStockBucket.of(productId, i, shares[i]));
+        }
+        bucketRepository.saveAll(buckets);
+
+        log.info("재고 분할 적용 - 상품 ID: {}, 버킷 수: {}, 재고: {}", productId, bucketCount, totalStock);
+    }
+
+    // 버킷 재고를 다시 상품 재고 컬럼으로 합침 (관리자 전용)
+    public void disableSharding(Long productId) {
+        rejectIfReservationEngine();
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + productId));
+        if (!product.isStockSharded()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "재고가 분할되지 않은 상품입니다: " + productId);
+        }
+
+        List<ProductStockBucket> buckets = bucketRepository.findByProductIdWithLock(productId);
+        int totalStock = buckets.stream().mapToInt(ProductStockBucket::getStock).sum();
+        bucketRepository.deleteAllInBatch(buckets);
+        product.disableStockSharding(totalStock);
+
+        log.info("재고 분할 해제 - 상품 ID: {}, 재고: {}", productId, totalStock);
+    }
+
+    /**
+     * 일부 버킷이 공정 몫의 절반 아래로 줄었으면 전체를 균등하게 재분배한다.
+     * 치우침은 잠금 없이 읽은 값으로 먼저 판단하고, 치우쳤을 때만 버킷을 잠근 뒤 다시 확인한다
+     * (평소에는 주문의 조건부 UPDATE를 막지 않음).
+     */
+    public boolean rebalance(Long productId) {
+        if (!isSkewed(bucketRepository.findStocksByProductId(productId))) {
+            return false;
+        }
+        List<ProductStockBucket> buckets = bucketRepository.findByProductIdWithLock(productId);
+        if (!isSkewed(buckets.stream().map(ProductStockBucket::getStock).toList())) {
+            return false;
+        }
+
+        int totalStock = buckets.stream().mapToInt(ProductStockBucket::getStock).sum();
+        int[] shares = distribute(totalStock, buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            buckets.get(i).updateStock(shares[i]);
+        }
+        log.debug("재고 버킷 재분배 - 상품 ID: {}, 재고: {}", productId, totalStock);
+        return true;
+    }
+
+    private static boolean isSkewed(List<Integer> stocks) {
+        if (stocks.size() < 2) {
+            return false;
+        }
+        int totalStock = stocks.stream().mapToInt(Integer::intValue).sum();
+        int fairShare = totalStock / stocks.size();
+        int minStock = stocks.stream().mapToInt(Integer::intValue).min().orElse(0);
+        return fairShare > 0 && minStock < fairShare / 2;
+    }
+
+    private void rejectIfReservationEngine() {
+        if (reservationEngine.getIfAvailable() != null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "reservation-engine 재고 전략에서는 재고 분할을 바꿀 수 없습니다.");
+        }
+    }
+
+    // 나머지는 앞쪽 버킷부터 하나씩 더 배분
+    private int[] distribute(int totalStock, int bucketCount) {
+        int[] shares = new int[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            shares[i] = totalStock / bucketCount + (i < totalStock % bucketCount ? 1 : 0);
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.domain.lease.JobLeaseRepository;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 주문으로 한쪽 버킷만 바닥나면 조건부 UPDATE가 잠금 폴백으로 몰리므로 주기적으로 버킷 재고를 고르게 맞춘다.
+ * 여러 노드가 같은 버킷을 번갈아 잠그지 않도록 실행 권한(job_leases)을 가진 노드 하나만 실행하며,
+ * 그 노드가 멈추면 lease-ms가 지난 뒤 다른 노드가 이어받는다.
+ */
+@Slf4j
+@Component
+public class StockBucketRebalancer {
+
+    private static final String LEASE_NAME = "stock-bucket-rebalancer";
+
+    private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+    private final JobLeaseRepository jobLeaseRepository;
+    private final Duration leaseDuration;
+    private final String owner = UUID.randomUUID().toString();
+
+    public StockBucketRebalancer(ProductRepository productRepository,
+                                 ShardedStockService shardedStockService,
+                                 JobLeaseRepository jobLeaseRepository,
+                                 @Value("${commerce.stock-sharding.rebalance-lease-ms:10000}") long leaseMillis) {
+        this.productRepository = productRepository;
+        this.shardedStockService = shardedStockService;
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.leaseDuration = Duration.ofMillis(leaseMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.stock-sharding.rebalance-interval-ms:1000}")
+    public void rebalance() {
+        if (!jobLeaseRepository.tryAcquire(LEASE_NAME, owner, leaseDuration)) {
+            return;
+        }
+        for (Long productId : productRepository.findAllStockShardedIds()) {
+            try {
+                // 상품마다 별도 트랜잭션으로 처리해 버킷 잠금을 짧게 유지
+                shardedStockService.rebalance(productId);
+            } catch (RuntimeException e) {
+                log.warn("재고 버킷 재분배 실패 - 상품 ID: {}", productId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.commerce_mvp.application.product.dto;
+
+import com.example.commerce_mvp.domain.product.CategoryCount;
+import lombok.Getter;
+
+@Getter
+public class CategoryCountDto {
+
+    private final String category1;
+    private final String category2;
+    private final long productCount;
+
+    public CategoryCountDto(CategoryCount categoryCount){
+        this.category1 = categoryCount.getCategory1();
+        this.category2 = categoryCount.getCategory2();
+        this.productCount = categoryCount.getProductCount();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.commerce_mvp.application.product.dto;
 
 import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductSummary;
 import lombok.Getter;
 
 @Getter
@@ -21,4 +22,13 @@ public class ProductDto {
         this.category1 = product.getCategory1();
         this.category2 = product.getCategory2();
     }
+
+    public ProductDto(ProductSummary summary){
+        this.productId = summary.id();
+        this.name = summary.name();
+        this.imageUrl = summary.imageUrl();
+        this.price = summary.price();
+        this.category1 = summary.category1();
+        this.category2 = summary.category2();
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.commerce_mvp.application.product.event;
+
+import java.util.Collection;
+import java.util.List;
+
+// 상품 목록에 노출되는 정보(추가, 이름/가격/이미지/카테고리)가 바뀌었음을 알림 (재고 변경은 ProductChangedEvent)
+public record ProductCatalogChangedEvent(List<Long> productIds) {
+
+    public static ProductCatalogChangedEvent of(Collection<Long> productIds) {
+        return new ProductCatalogChangedEvent(List.copyOf(productIds));
+    }
+}
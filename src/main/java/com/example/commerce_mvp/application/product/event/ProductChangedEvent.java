@@ -0,0 +1,12 @@
+package com.example.commerce_mvp.application.product.event;
+
+import java.util.Collection;
+import java.util.List;
+
+// 상품의 재고나 가격이 바뀌었음을 알림 (커밋 이후 상품을 포함한 캐시를 무효화하는 용도)
+public record ProductChangedEvent(List<Long> productIds) {
+
+    public static ProductChangedEvent of(Collection<Long> productIds) {
+        return new ProductChangedEvent(List.copyOf(productIds));
+    }
+}
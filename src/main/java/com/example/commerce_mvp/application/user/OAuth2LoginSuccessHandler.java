@@ -45,8 +45,8 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
         OAuthAttributes attributes = OAuthAttributes.of(registrationId, userNameAttributeName, oAuth2User.getAttributes());
         String email = attributes.getEmail();
 
-        //토큰 생성
-        TokenResponseDto tokenInfo = jwtTokenProvider.generateToken(email, authentication.getAuthorities());
+        //토큰 생성 (CustomOAuthUserService가 반환한 UserPrincipal의 사용자 ID/권한을 클레임으로 포함)
+        TokenResponseDto tokenInfo = jwtTokenProvider.generateToken((UserPrincipal) oAuth2User);
         log.info("발급된 Access Token (Subject: {}): {}", email, tokenInfo.getAccessToken());
 
         // Refresh Token을 DB에 저장
@@ -14,71 +14,75 @@ import java.util.Map;
 
 @Getter
 public class UserPrincipal implements UserDetails, OAuth2User {
-    
-    private final User user;
+
+    private final Long id;
+    private final String email;
+    private final UserRole role;
     private final Map<String, Object> attributes;
-    
+
     public UserPrincipal(User user) {
-        this.user = user;
-        this.attributes = Collections.emptyMap();
+        this(user, Collections.emptyMap());
     }
-    
+
     public UserPrincipal(User user, Map<String, Object> attributes) {
-        this.user = user;
+        this(user.getId(), user.getEmail(), user.getRole(), attributes);
+    }
+
+    private UserPrincipal(Long id, String email, UserRole role, Map<String, Object> attributes) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
         this.attributes = attributes;
     }
-    
+
+    // Access Token 클레임만으로 생성 (DB 조회 없음)
+    public static UserPrincipal of(Long id, String email, UserRole role) {
+        return new UserPrincipal(id, email, role, Collections.emptyMap());
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority(user.getRole().getValue()));
+        return Collections.singletonList(new SimpleGrantedAuthority(role.getValue()));
     }
-    
+
     @Override
     public String getPassword() {
         return null; // OAuth2에서는 패스워드가 없음
     }
-    
+
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
-    
+
     @Override
     public boolean isAccountNonExpired() {
         return true;
     }
-    
+
     @Override
     public boolean isAccountNonLocked() {
         return true;
     }
-    
+
     @Override
     public boolean isCredentialsNonExpired() {
         return true;
     }
-    
+
     @Override
     public boolean isEnabled() {
         return true;
     }
-    
-    public String getEmail() {
-        return user.getEmail();
-    }
-    
-    public UserRole getRole() {
-        return user.getRole();
-    }
-    
+
     // OAuth2User 구현
     @Override
     public Map<String, Object> getAttributes() {
         return attributes;
     }
-    
+
     @Override
     public String getName() {
-        return user.getEmail();
+        return email;
     }
 }
@@ -0,0 +1,98 @@
+package com.example.commerce_mvp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 도메인 이벤트 핸들러 전용 실행기. @Async의 기본 실행기로도 등록된다.
+ * 스레드 수와 대기열 크기를 제한하고, 대기열이 가득 차면 rejection-policy에 따라
+ * 즉시 거절(abort)하거나 호출 스레드에서 실행(caller-runs)한다.
+ * 대기 건수, 실행 중인 작업 수, 거절 건수, 핸들러 실행 시간을 지표로 내보낸다.
+ */
+@Slf4j
+@Configuration
+public class DomainEventExecutorConfig implements AsyncConfigurer {
+
+    public static final String DOMAIN_EVENT_EXECUTOR = "domainEventExecutor";
+
+    private final MeterRegistry meterRegistry;
+    private final int poolSize;
+    private final int queueCapacity;
+    private final String rejectionPolicy;
+
+    public DomainEventExecutorConfig(MeterRegistry meterRegistry,
+                                     @Value("${commerce.domain-event.executor.pool-size:4}") int poolSize,
+                                     @Value("${commerce.domain-event.executor.queue-capacity:500}") int queueCapacity,
+                                     @Value("${commerce.domain-event.executor.rejection-policy:abort}") String rejectionPolicy) {
+        this.meterRegistry = meterRegistry;
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    @Bean(name = DOMAIN_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor domainEventExecutor() {
+        Timer handlerTimer = Timer.builder("commerce.domain-event.handler")
+                .description("도메인 이벤트 핸들러 실행 시간")
+                .register(meterRegistry);
+        Counter rejectedCounter = Counter.builder("commerce.domain-event.executor.rejected")
+                .description("대기열이 가득 차 거절된 핸들러 작업 수")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setTaskDecorator(task -> () -> handlerTimer.record(task));
+        executor.setRejectedExecutionHandler(countingPolicy(rejectedCounter));
+        // 종료 시 대기 중인 핸들러를 마저 처리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        Gauge.builder("commerce.domain-event.executor.queued", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("실행을 기다리는 핸들러 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("commerce.domain-event.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("실행 중인 핸들러 작업 수")
+                .register(meterRegistry);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return domainEventExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 이벤트 핸들러 실패 - {}.{}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), e);
+    }
+
+    private RejectedExecutionHandler countingPolicy(Counter rejectedCounter) {
+        RejectedExecutionHandler delegate = switch (rejectionPolicy) {
+            case "abort" -> new ThreadPoolExecutor.AbortPolicy();
+            case "caller-runs" -> new ThreadPoolExecutor.CallerRunsPolicy();
+            default -> throw new IllegalStateException("지원하지 않는 rejection-policy: " + rejectionPolicy);
+        };
+        return (task, pool) -> {
+            rejectedCounter.increment();
+            delegate.rejectedExecution(task, pool);
+        };
+    }
+}
@@ -6,7 +6,6 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
@@ -24,11 +23,10 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         //request header에서 jwt 토큰 추출
         String token = resolveToken((HttpServletRequest) request);
 
-        //validateToken으로 토큰 유효성 검사
-        if(token != null && jwtTokenProvider.validateToken(token)){
-            //토큰이 유효할 경우 토큰에서 Authentication 객체를 가져와서 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        //토큰을 한 번만 검증하고, 유효할 경우 검증된 Claims로 만든 Authentication 객체를 SecurityContext에 저장
+        if(token != null){
+            jwtTokenProvider.authenticate(token)
+                    .ifPresent(authentication -> SecurityContextHolder.getContext().setAuthentication(authentication));
         }
 
         //다음 필터로 제어 넘기기
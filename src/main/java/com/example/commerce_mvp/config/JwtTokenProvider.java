@@ -6,6 +6,7 @@ import com.example.commerce_mvp.application.auth.dto.TokenResponseDto;
 import com.example.commerce_mvp.application.user.UserPrincipal;
 import com.example.commerce_mvp.domain.user.User;
 import com.example.commerce_mvp.domain.user.UserRepository;
+import com.example.commerce_mvp.domain.user.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -14,51 +15,55 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String AUTHORITIES_CLAIM = "auth";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+
     private final Key key;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    private final boolean statelessPrincipal;
     private final UserRepository userRepository;
+    private final StaleClaimsRegistry staleClaimsRegistry;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
                             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
                             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
-                            UserRepository userRepository){
+                            @Value("${jwt.stateless-principal:true}") boolean statelessPrincipal,
+                            @Value("${jwt.verified-token-cache.max-size:10000}") int verifiedTokenCacheSize,
+                            @Value("${jwt.verified-token-cache.ttl:60000}") long verifiedTokenCacheTtl,
+                            UserRepository userRepository,
+                            StaleClaimsRegistry staleClaimsRegistry){
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        // JwtParser는 불변이므로 한 번만 만들어 재사용
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheSize, verifiedTokenCacheTtl);
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.statelessPrincipal = statelessPrincipal;
         this.userRepository = userRepository;
+        this.staleClaimsRegistry = staleClaimsRegistry;
     }
 
-    public TokenResponseDto generateToken(String subject, Collection<? extends GrantedAuthority> authorities){
-        String authoritiesString = authorities.stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
-
+    public TokenResponseDto generateToken(UserPrincipal principal){
         long now = (new Date()).getTime();
 
         //Access Token 생성
-        Date accessTokenExpiresIn = new Date(now + accessTokenExpiration);
-        String accessToken = Jwts.builder()
-                .setSubject(subject)
-                .claim("auth", authoritiesString)
-                .setExpiration(accessTokenExpiresIn)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+        String accessToken = buildAccessToken(principal, now);
 
         //Refresh Token 생성
         String refreshToken = Jwts.builder()
@@ -73,19 +78,16 @@ public class JwtTokenProvider {
                 .build();
     }
 
+    //토큰을 한 번만 검증하고, 검증된 Claims로 Authentication 객체를 만드는 메서드
+    public Optional<Authentication> authenticate(String accessToken) {
+        return verify(accessToken).map(this::getAuthentication);
+    }
+
     //Jwt 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메서드
-    public Authentication getAuthentication(String accessToken){
+    public Authentication getAuthentication(Claims claims){
         try {
-            //토큰 복호화
-            Claims claims = parseClaims(accessToken);
-            String email = claims.getSubject();
-
-            // 데이터베이스에서 사용자 정보 조회
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + email));
-
-            // UserPrincipal 생성
-            UserPrincipal userPrincipal = new UserPrincipal(user);
+            // UserPrincipal 생성 (클레임이 신뢰 가능하면 DB 조회 없이 생성)
+            UserPrincipal userPrincipal = resolvePrincipal(claims);
 
             return new UsernamePasswordAuthenticationToken(userPrincipal, "", userPrincipal.getAuthorities());
         } catch (Exception e) {
@@ -96,9 +98,19 @@ public class JwtTokenProvider {
 
     //토큰 정보를 검증하는 메서드
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    // 서명/만료를 검증하고 Claims를 반환 (최근 검증된 토큰은 캐시에서 바로 반환)
+    public Optional<Claims> verify(String token) {
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.put(token, claims);
+            return Optional.of(claims);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
         } catch (ExpiredJwtException e) {
@@ -108,13 +120,13 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty.", e);
         }
-        return false;
+        return Optional.empty();
     }
 
     // Refresh Token 검증 메서드
     public boolean validateRefreshToken(String refreshToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken);
+            jwtParser.parseClaimsJws(refreshToken);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid Refresh Token", e);
@@ -135,20 +147,13 @@ public class JwtTokenProvider {
     }
 
     // Access Token 재발급
-    public String generateAccessToken(String subject, Collection<? extends GrantedAuthority> authorities) {
-        String authoritiesString = authorities.stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
-
-        long now = (new Date()).getTime();
-        Date accessTokenExpiresIn = new Date(now + accessTokenExpiration);
+    public String generateAccessToken(UserPrincipal principal) {
+        return buildAccessToken(principal, (new Date()).getTime());
+    }
 
-        return Jwts.builder()
-                .setSubject(subject)
-                .claim("auth", authoritiesString)
-                .setExpiration(accessTokenExpiresIn)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+    // 이후 발급 전의 Access Token 클레임을 더 이상 신뢰하지 않도록 표시
+    public void markClaimsStale(String email) {
+        staleClaimsRegistry.markStale(email);
     }
 
     // 새로운 Refresh Token 생성
@@ -160,9 +165,42 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    // 사용자 ID, 이메일, 권한을 클레임으로 담아 요청마다 DB를 조회하지 않도록 함
+    private String buildAccessToken(UserPrincipal principal, long now) {
+        String authoritiesString = principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        return Jwts.builder()
+                .setSubject(principal.getEmail())
+                .claim(AUTHORITIES_CLAIM, authoritiesString)
+                .claim(USER_ID_CLAIM, principal.getId())
+                .claim(ROLE_CLAIM, principal.getRole().name())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + accessTokenExpiration))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private UserPrincipal resolvePrincipal(Claims claims) {
+        String email = claims.getSubject();
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+
+        if (statelessPrincipal && userId != null && role != null
+                && !staleClaimsRegistry.isStale(email, claims.getIssuedAt())) {
+            return UserPrincipal.of(userId, email, UserRole.valueOf(role));
+        }
+
+        // 클레임이 없는 이전 토큰이거나 클레임이 stale한 경우 데이터베이스에서 사용자 정보 조회
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + email));
+        return new UserPrincipal(user);
+    }
+
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
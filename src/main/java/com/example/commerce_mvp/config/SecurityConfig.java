@@ -34,6 +34,9 @@ public class SecurityConfig {
                         //아래 경로들은 인증 없이 접근 허용
                         .requestMatchers("/", "/login/**", "/oauth2/**").permitAll()
                         .requestMatchers("/api/auth/refresh", "/api/auth/logout").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        //운영 지표는 관리자만 조회
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         //아래 경로들은 인증이 필요
                         .requestMatchers("/api/**").authenticated()
                         //나머지 경로들은 모두 허용
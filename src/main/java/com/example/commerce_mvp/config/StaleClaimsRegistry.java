@@ -0,0 +1,40 @@
+package com.example.commerce_mvp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 클레임이 더 이상 신뢰할 수 없게 된 사용자를 기록한다.
+ * 기록 시점 이전에 발급된 토큰은 클레임 대신 DB에서 사용자 정보를 다시 읽는다.
+ * 노드 로컬 메모리에만 보관하며, Access Token 만료 시간이 지난 기록은 정리된다.
+ */
+@Component
+public class StaleClaimsRegistry {
+
+    private final Map<String, Long> staleSince = new ConcurrentHashMap<>();
+    private final long accessTokenExpiration;
+
+    public StaleClaimsRegistry(@Value("${jwt.access-token-expiration}") long accessTokenExpiration) {
+        this.accessTokenExpiration = accessTokenExpiration;
+    }
+
+    public void markStale(String email) {
+        long now = System.currentTimeMillis();
+        staleSince.put(email, now);
+        // 만료 시간이 지난 기록은 더 이상 유효한 토큰과 비교될 일이 없으므로 제거
+        staleSince.values().removeIf(markedAt -> markedAt < now - accessTokenExpiration);
+    }
+
+    public boolean isStale(String email, Date issuedAt) {
+        Long markedAt = staleSince.get(email);
+        if (markedAt == null) {
+            return false;
+        }
+        // iat는 초 단위로 잘리므로 같은 초에 발급된 토큰도 stale로 취급 (DB 조회로 안전하게 처리)
+        return issuedAt == null || issuedAt.getTime() <= markedAt;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.commerce_mvp.config;
+
+import com.example.commerce_mvp.application.common.cache.BoundedLruCache;
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+
+/**
+ * 최근에 서명 검증을 통과한 토큰의 Claims를 보관하는 LRU 캐시.
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하며, 항목은 토큰의 exp보다 늦게 만료되지 않는다.
+ */
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final BoundedLruCache<ByteBuffer, Claims> entries;
+    private final long ttlMillis;
+
+    public VerifiedTokenCache(int maxSize, long ttlMillis) {
+        this.entries = new BoundedLruCache<>(maxSize, ttlMillis);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public boolean isEnabled() {
+        return entries.isEnabled();
+    }
+
+    public Claims get(String token) {
+        if (!isEnabled()) {
+            return null;
+        }
+        return entries.get(hash(token));
+    }
+
+    public void put(String token, Claims claims) {
+        if (!isEnabled()) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        }
+        // 무효화하지 않는 캐시이므로 현재 버전으로 바로 넣음
+        entries.put(hash(token), claims, entries.version(), expiresAt);
+    }
+
+    private ByteBuffer hash(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -11,7 +11,13 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "carts")
+@Table(name = "carts", uniqueConstraints = {
+        // 사용자당 상품별 한 줄 (장바구니 담기 upsert의 기준)
+        @UniqueConstraint(name = "uk_carts_user_product", columnNames = {"user_id", "product_id"})
+}, indexes = {
+        // 사용자별 장바구니 키셋 페이징 (updatedAt, id 내림차순)
+        @Index(name = "idx_carts_user_updated_at", columnList = "user_id, updated_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Cart {
@@ -34,7 +40,7 @@ public class Cart {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     @Builder
@@ -80,20 +86,4 @@ public class Cart {
     public int getTotalPrice() {
         return this.product.getPrice() * this.quantity;
     }
-
-    // 재고 확인
-    public boolean isStockAvailable() {
-        return this.product.getStock() >= this.quantity;
-    }
-
-    // 재고 부족 시 예외 발생
-    public void validateStock() {
-        if (!isStockAvailable()) {
-            throw new IllegalStateException(
-                "재고가 부족합니다. 상품: " + this.product.getName() + 
-                ", 요청 수량: " + this.quantity + 
-                ", 재고: " + this.product.getStock()
-            );
-        }
-    }
 }
@@ -0,0 +1,8 @@
+package com.example.commerce_mvp.domain.cart;
+
+/**
+ * 장바구니 아이템과 소유자 ID만 담은 프로젝션.
+ * 일괄 변경 전에 여러 아이템의 소유권을 IN 조회 한 번으로 확인할 때 사용한다.
+ */
+public record CartItemOwner(Long cartItemId, Long userId) {
+}
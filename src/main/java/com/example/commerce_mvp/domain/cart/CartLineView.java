@@ -0,0 +1,23 @@
+package com.example.commerce_mvp.domain.cart;
+
+import java.time.LocalDateTime;
+
+// 장바구니 한 줄을 화면에 필요한 컬럼만으로 조회한 결과 (엔티티를 로딩하지 않는 조회 전용 프로젝션)
+public record CartLineView(Long cartId,
+                           Long productId,
+                           String productName,
+                           int productPrice,
+                           String productImageUrl,
+                           int quantity,
+                           int availableStock,
+                           LocalDateTime createdAt,
+                           LocalDateTime updatedAt) {
+
+    public int totalPrice() {
+        return productPrice * quantity;
+    }
+
+    public boolean isStockAvailable() {
+        return availableStock >= quantity;
+    }
+}
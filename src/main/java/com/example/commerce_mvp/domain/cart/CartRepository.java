@@ -2,39 +2,78 @@ package com.example.commerce_mvp.domain.cart;
 
 import com.example.commerce_mvp.domain.product.Product;
 import com.example.commerce_mvp.domain.user.User;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CartRepository extends JpaRepository<Cart, Long> {
+public interface CartRepository extends JpaRepository<Cart, Long>, CartUpsertRepository {
 
-    // 사용자별 장바구니 조회 (페이징) - N+1 문제 해결
-    @EntityGraph(attributePaths = {"product", "user"})
-    Slice<Cart> findByUserOrderByUpdatedAtDesc(User user, Pageable pageable);
+    // 판매 가능 재고 (분할된 상품은 버킷 합계) - 상품 엔티티를 읽을 때마다 계산하지 않도록 필요한 조회에만 넣음
+    String AVAILABLE_STOCK = "(CASE WHEN p.stockBucketCount > 0 THEN " +
+            "(SELECT CAST(COALESCE(SUM(b.stock), 0) AS Integer) FROM ProductStockBucket b WHERE b.productId = p.id) " +
+            "ELSE p.stock END)";
 
     // 사용자별 장바구니 전체 조회 - N+1 문제 해결
     @EntityGraph(attributePaths = {"product", "user"})
     List<Cart> findByUserOrderByUpdatedAtDesc(User user);
 
+    // 사용자별 장바구니 한 줄 요약 (상품과 조인한 프로젝션 한 번으로 요약 화면 전체를 구성)
+    @Query("SELECT new com.example.commerce_mvp.domain.cart.CartLineView(" +
+            "c.id, p.id, p.name, p.price, p.imageUrl, c.quantity, " + AVAILABLE_STOCK + ", c.createdAt, c.updatedAt) " +
+            "FROM Cart c JOIN c.product p WHERE c.user.id = :userId ORDER BY c.updatedAt DESC, c.id DESC")
+    List<CartLineView> findLineViewsByUserId(@Param("userId") Long userId);
+
     // 특정 사용자와 상품으로 장바구니 아이템 조회
     Optional<Cart> findByUserAndProduct(User user, Product product);
 
-    // 동시성 제어를 위한 Lock 조회 - N+1 문제 해결
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @EntityGraph(attributePaths = {"product", "user"})
-    @Query("SELECT c FROM Cart c WHERE c.user = :user AND c.product = :product")
-    Optional<Cart> findByUserAndProductWithLock(@Param("user") User user, @Param("product") Product product);
+    // 사용자와 상품으로 장바구니 한 줄 요약 조회 (담기 직후 응답 구성용)
+    @Query("SELECT new com.example.commerce_mvp.domain.cart.CartLineView(" +
+            "c.id, p.id, p.name, p.price, p.imageUrl, c.quantity, " + AVAILABLE_STOCK + ", c.createdAt, c.updatedAt) " +
+            "FROM Cart c JOIN c.product p WHERE c.user.id = :userId AND p.id = :productId")
+    Optional<CartLineView> findLineView(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    // 장바구니 아이템 ID로 한 줄 요약 조회 (수량 변경 직후 응답 구성용)
+    @Query("SELECT new com.example.commerce_mvp.domain.cart.CartLineView(" +
+            "c.id, p.id, p.name, p.price, p.imageUrl, c.quantity, " + AVAILABLE_STOCK + ", c.createdAt, c.updatedAt) " +
+            "FROM Cart c JOIN c.product p WHERE c.id = :id")
+    Optional<CartLineView> findLineViewById(@Param("id") Long id);
+
+    // 본인 장바구니 아이템만 수량 변경 - 소유권 검증을 WHERE 절로 처리하고 변경된 행 수를 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Cart c SET c.quantity = :quantity, c.updatedAt = :updatedAt WHERE c.id = :id AND c.user.id = :userId")
+    int updateQuantityByIdAndUserId(@Param("id") Long id,
+                                    @Param("userId") Long userId,
+                                    @Param("quantity") int quantity,
+                                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 본인 장바구니 아이템만 삭제 - 삭제된 행 수를 반환
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.id = :id AND c.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 여러 장바구니 아이템의 소유자를 한 번에 조회 (일괄 변경 전 소유권 확인용)
+    @Query("SELECT new com.example.commerce_mvp.domain.cart.CartItemOwner(c.id, c.user.id) FROM Cart c WHERE c.id IN :ids")
+    List<CartItemOwner> findOwnersByIds(@Param("ids") List<Long> ids);
+
+    // 본인 장바구니 아이템 여러 개를 DELETE 한 번으로 삭제
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.user.id = :userId AND c.id IN :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") List<Long> ids);
+
+    // 주문한 상품의 장바구니 행 삭제 (주문 이후에 담거나 바꾼 행은 제외)
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.user.id = :userId AND c.product.id IN :productIds AND c.updatedAt <= :orderedAt")
+    int deleteOrderedItems(@Param("userId") Long userId,
+                           @Param("productIds") List<Long> productIds,
+                           @Param("orderedAt") LocalDateTime orderedAt);
 
     // 사용자별 장바구니 아이템 수 조회
     @Query("SELECT COUNT(c) FROM Cart c WHERE c.user = :user")
@@ -61,6 +100,6 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
 
     // 재고 부족한 장바구니 아이템 조회 - N+1 문제 해결
     @EntityGraph(attributePaths = {"product", "user"})
-    @Query("SELECT c FROM Cart c WHERE c.user = :user AND c.quantity > c.product.stock")
+    @Query("SELECT c FROM Cart c JOIN c.product p WHERE c.user = :user AND c.quantity > " + AVAILABLE_STOCK)
     List<Cart> findOutOfStockItemsByUser(@Param("user") User user);
 }
@@ -0,0 +1,26 @@
+package com.example.commerce_mvp.domain.cart;
+
+import java.util.Map;
+
+// 장바구니 담기/일괄 변경 전용 쓰기 경로 (CartRepository에 합쳐서 사용)
+public interface CartUpsertRepository {
+
+    /**
+     * (userId, productId) 행이 없으면 quantity로 추가하고, 있으면 quantity만큼 증가시킨다.
+     * carts(user_id, product_id) 유니크 제약에 기대므로 동시에 처음 담아도 행이 중복되지 않는다.
+     * 상품이 존재하지 않으면 외래 키 위반으로 DataIntegrityViolationException이 발생한다.
+     */
+    void upsertQuantity(Long userId, Long productId, int quantity);
+
+    /**
+     * 여러 상품(productId -> 추가 수량)을 JDBC 배치로 upsert한다.
+     * MySQL이 아닌 환경에서 동시에 처음 담긴 행과 겹치면 DuplicateKeyException이 발생하며,
+     * 이미 반영된 행은 호출한 트랜잭션의 롤백으로 함께 취소된다.
+     */
+    void upsertQuantities(Long userId, Map<Long, Integer> quantitiesByProductId);
+
+    /**
+     * 본인 장바구니 아이템(cartItemId -> 수량)의 수량을 JDBC 배치로 변경한다.
+     */
+    void updateQuantities(Long userId, Map<Long, Integer> quantitiesByCartItemId);
+}
@@ -0,0 +1,122 @@
+package com.example.commerce_mvp.domain.cart;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL은 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 처리한다.
+ * 그 외(H2 등)는 UPDATE 후 갱신된 행이 없을 때만 INSERT하고, 동시에 다른 트랜잭션이 먼저 넣어
+ * 유니크 제약에 걸리면 다시 UPDATE한다. JdbcTemplate을 쓰는 이유는 유니크 위반이
+ * 리포지토리 트랜잭션 프록시를 거치며 현재 트랜잭션을 rollback-only로 만들지 않게 하기 위함이다.
+ * 일괄 변경은 같은 문장을 batchUpdate로 묶어 한 번의 왕복으로 보낸다.
+ */
+@RequiredArgsConstructor
+public class CartUpsertRepositoryImpl implements CartUpsertRepository {
+
+    private static final String MYSQL_UPSERT =
+            "INSERT INTO carts (user_id, product_id, quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), updated_at = VALUES(updated_at)";
+    private static final String INCREMENT =
+            "UPDATE carts SET quantity = quantity + ?, updated_at = ? WHERE user_id = ? AND product_id = ?";
+    private static final String INSERT =
+            "INSERT INTO carts (user_id, product_id, quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String SET_QUANTITY =
+            "UPDATE carts SET quantity = ?, updated_at = ? WHERE id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean mysql;
+
+    @Override
+    public void upsertQuantity(Long userId, Long productId, int quantity) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (isMySql()) {
+            jdbcTemplate.update(MYSQL_UPSERT, userId, productId, quantity, now, now);
+            return;
+        }
+        if (jdbcTemplate.update(INCREMENT, quantity, now, userId, productId) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT, userId, productId, quantity, now, now);
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 추가한 행에 수량을 더함
+            jdbcTemplate.update(INCREMENT, quantity, now, userId, productId);
+        }
+    }
+
+    @Override
+    public void upsertQuantities(Long userId, Map<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(quantitiesByProductId.entrySet());
+        if (isMySql()) {
+            jdbcTemplate.batchUpdate(MYSQL_UPSERT, entries, entries.size(), (ps, entry) -> {
+                ps.setLong(1, userId);
+                ps.setLong(2, entry.getKey());
+                ps.setInt(3, entry.getValue());
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+            });
+            return;
+        }
+
+        // 기존 행은 배치 UPDATE로 증가시키고, 갱신되지 않은 상품만 배치 INSERT
+        int[][] counts = jdbcTemplate.batchUpdate(INCREMENT, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, userId);
+            ps.setLong(4, entry.getKey());
+        });
+        List<Map.Entry<Long, Integer>> missing = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (counts[0][i] == 0) {
+                missing.add(entries.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, missing, missing.size(), (ps, entry) -> {
+                ps.setLong(1, userId);
+                ps.setLong(2, entry.getKey());
+                ps.setInt(3, entry.getValue());
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+            });
+        }
+    }
+
+    @Override
+    public void updateQuantities(Long userId, Map<Long, Integer> quantitiesByCartItemId) {
+        if (quantitiesByCartItemId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(quantitiesByCartItemId.entrySet());
+        jdbcTemplate.batchUpdate(SET_QUANTITY, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, entry.getKey());
+            ps.setLong(4, userId);
+        });
+    }
+
+    private boolean isMySql() {
+        Boolean cached = mysql;
+        if (cached == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            cached = productName != null && productName.toLowerCase().contains("mysql");
+            mysql = cached;
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.commerce_mvp.domain.lease;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 여러 노드 중 한 곳에서만 실행해야 하는 주기 작업의 실행 권한 (작업당 한 줄, 만료 전까지 owner 노드만 실행)
+@Entity
+@Table(name = "job_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLease {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,12 @@
+package com.example.commerce_mvp.domain.lease;
+
+import java.time.Duration;
+
+public interface JobLeaseClaimRepository {
+
+    /**
+     * 작업 실행 권한을 얻거나 연장한다. 다른 노드가 만료 전의 권한을 가지고 있으면 false를 반환한다.
+     * 트랜잭션 밖에서 호출해 문장마다 바로 커밋되게 한다.
+     */
+    boolean tryAcquire(String name, String owner, Duration duration);
+}
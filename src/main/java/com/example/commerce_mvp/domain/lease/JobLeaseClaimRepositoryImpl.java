@@ -0,0 +1,39 @@
+package com.example.commerce_mvp.domain.lease;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 가진 권한이거나 만료된 권한일 때만 조건부 UPDATE로 가져오고, 행이 없으면 INSERT한다.
+ * 두 노드가 동시에 INSERT하면 기본 키로 한쪽만 성공한다.
+ * (JPA save는 식별자가 있는 엔티티를 merge하므로 다른 노드의 권한을 덮어쓸 수 있어 JdbcTemplate을 사용)
+ */
+@RequiredArgsConstructor
+public class JobLeaseClaimRepositoryImpl implements JobLeaseClaimRepository {
+
+    private static final String RENEW =
+            "UPDATE job_leases SET owner = ?, expires_at = ? WHERE name = ? AND (owner = ? OR expires_at < ?)";
+    private static final String INSERT =
+            "INSERT INTO job_leases (name, owner, expires_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryAcquire(String name, String owner, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp expiresAt = Timestamp.valueOf(now.plus(duration));
+        if (jdbcTemplate.update(RENEW, owner, expiresAt, name, owner, Timestamp.valueOf(now)) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT, name, owner, expiresAt) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.commerce_mvp.domain.lease;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String>, JobLeaseClaimRepository {
+}
@@ -6,13 +6,17 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 사용자별 주문 목록 키셋 페이징 (orderDate, id 내림차순)
+        @Index(name = "idx_orders_user_order_date", columnList = "user_id, order_date, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
@@ -41,11 +45,13 @@ public class Order {
     @Column(nullable = false)
     private String shippingName;
 
-    @Column(nullable = false)
+    @Column(name = "order_date", nullable = false)
     private LocalDateTime orderDate;
 
     private LocalDateTime deliveryDate;
 
+    // 주문 목록 조회 시 여러 주문의 아이템을 IN 쿼리 한 번으로 로딩
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
 
@@ -112,11 +118,12 @@ public class Order {
         orderItem.getProduct().decreaseStock(orderItem.getQuantity());
     }
 
-    // 주문 취소 시 재고 복구
-    public void restoreStock() {
-        for (OrderItem orderItem : orderItems) {
-            orderItem.getProduct().increaseStock(orderItem.getQuantity());
-        }
+    // 주문에 포함된 상품 ID 목록 (중복 제거)
+    public List<Long> getProductIds() {
+        return orderItems.stream()
+                .map(orderItem -> orderItem.getProduct().getId())
+                .distinct()
+                .toList();
     }
 
     // 주문 취소 가능 여부 확인
@@ -124,12 +131,11 @@ public class Order {
         return status == OrderStatus.PENDING || status == OrderStatus.CONFIRMED;
     }
 
-    // 주문 취소
+    // 주문 취소 (재고 복구는 InventoryStrategy에서 수행)
     public void cancel() {
         if (!canBeCancelled()) {
             throw new IllegalStateException("취소할 수 없는 주문 상태입니다: " + status);
         }
         changeStatus(OrderStatus.CANCELLED);
-        restoreStock();
     }
 }
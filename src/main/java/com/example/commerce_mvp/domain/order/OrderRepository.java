@@ -1,8 +1,8 @@
 package com.example.commerce_mvp.domain.order;
 
 import com.example.commerce_mvp.domain.user.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,8 +15,24 @@ import java.util.Optional;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    // 사용자별 주문 목록 조회 (페이징)
-    Page<Order> findByUserOrderByOrderDateDesc(User user, Pageable pageable);
+    // 사용자별 주문 목록 첫 페이지 (키셋 페이징, count 쿼리 없음) - 컬렉션 fetch join은 메모리 페이징이 되므로
+    // 주문 아이템과 상품은 @BatchSize로 페이지 단위 IN 조회
+    @Query("SELECT o FROM Order o WHERE o.user = :user ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findFirstPageByUser(@Param("user") User user, Pageable pageable);
+
+    // 사용자별 주문 목록 다음 페이지 - (orderDate, id)가 커서보다 앞선 주문부터 인덱스로 바로 탐색
+    @Query("SELECT o FROM Order o WHERE o.user = :user " +
+            "AND (o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id)) " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findPageByUserAfter(@Param("user") User user,
+                                    @Param("orderDate") LocalDateTime orderDate,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    // 주문 단건 조회 - 사용자, 주문 아이템, 상품을 한 번에 조회 (N+1 문제 해결)
+    @EntityGraph(attributePaths = {"user", "orderItems", "orderItems.product"})
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findWithItemsById(@Param("id") Long id);
 
     // 사용자별 주문 목록 조회 (전체)
     List<Order> findByUserOrderByOrderDateDesc(User user);
@@ -35,4 +51,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // 주문 상태 변경 가능한 주문들 조회
     @Query("SELECT o FROM Order o WHERE o.status IN :statuses ORDER BY o.orderDate DESC")
     List<Order> findOrdersByStatusIn(@Param("statuses") List<OrderStatus> statuses);
+
+    // 상품별 누적 주문 수량 (지정한 상태의 주문은 제외)
+    @Query("SELECT new com.example.commerce_mvp.domain.order.ProductSales(oi.product.id, SUM(oi.quantity)) " +
+            "FROM Order o JOIN o.orderItems oi WHERE o.status NOT IN :excluded GROUP BY oi.product.id")
+    List<ProductSales> sumQuantityByProduct(@Param("excluded") List<OrderStatus> excluded);
 }
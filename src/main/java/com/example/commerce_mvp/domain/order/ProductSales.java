@@ -0,0 +1,8 @@
+package com.example.commerce_mvp.domain.order;
+
+/**
+ * 상품별 누적 주문 수량 프로젝션.
+ * 자동완성 순위처럼 상품 인기도가 필요한 곳에서 집계 쿼리 한 번으로 읽는다.
+ */
+public record ProductSales(Long productId, Long quantity) {
+}
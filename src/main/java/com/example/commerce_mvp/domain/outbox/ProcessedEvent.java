@@ -0,0 +1,31 @@
+package com.example.commerce_mvp.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 소비자별로 이미 처리한 아웃박스 이벤트 (중복 전달 시 핸들러를 다시 실행하지 않기 위함)
+@Entity
+@Table(name = "processed_events", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"consumer", "event_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String consumer;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+}
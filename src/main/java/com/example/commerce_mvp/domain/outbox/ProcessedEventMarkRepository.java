@@ -0,0 +1,10 @@
+package com.example.commerce_mvp.domain.outbox;
+
+public interface ProcessedEventMarkRepository {
+
+    /**
+     * 처리 기록을 먼저 INSERT해 이 이벤트의 처리 권한을 가져온다. 이미 기록이 있으면 false.
+     * 다른 트랜잭션이 같은 이벤트를 처리 중이면 그 트랜잭션이 끝날 때까지 기다린 뒤 결과에 따른다.
+     */
+    boolean markProcessed(String consumer, Long eventId);
+}
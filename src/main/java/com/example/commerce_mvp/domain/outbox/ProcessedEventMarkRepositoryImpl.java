@@ -0,0 +1,30 @@
+package com.example.commerce_mvp.domain.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * (consumer, event_id) 유니크 키로 중복을 거른다. 존재 확인 후 저장하면 동시에 전달된 두 트랜잭션이 모두 통과하므로 INSERT를 먼저 한다.
+ * JPA flush 중 제약 위반은 호출한 트랜잭션을 롤백 전용으로 만들기 때문에 JdbcTemplate으로 INSERT하고 중복 키 예외만 삼킨다.
+ */
+@RequiredArgsConstructor
+public class ProcessedEventMarkRepositoryImpl implements ProcessedEventMarkRepository {
+
+    private static final String INSERT =
+            "INSERT INTO processed_events (consumer, event_id, processed_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean markProcessed(String consumer, Long eventId) {
+        try {
+            return jdbcTemplate.update(INSERT, consumer, eventId, Timestamp.valueOf(LocalDateTime.now())) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.commerce_mvp.domain.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, Long>, ProcessedEventMarkRepository {
+}
@@ -0,0 +1,33 @@
+package com.example.commerce_mvp.domain.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (category1, category2)별 상품 수.
+ * 상품이 저장될 때 같은 트랜잭션에서 증가시키므로, 카테고리 목록 화면이 product 테이블 전체를 GROUP BY하지 않아도 된다.
+ */
+@Entity
+@Table(name = "category_counts", uniqueConstraints = {
+        // 카테고리 쌍당 한 줄 (상품 수 증가 upsert의 기준)
+        @UniqueConstraint(name = "uk_category_counts_category", columnNames = {"category1", "category2"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String category1;
+
+    @Column(nullable = false)
+    private String category2;
+
+    @Column(nullable = false)
+    private long productCount;
+}
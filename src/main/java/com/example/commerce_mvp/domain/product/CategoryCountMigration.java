@@ -0,0 +1,22 @@
+package com.example.commerce_mvp.domain.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 카테고리 집계 이관 실행 기록 (버전당 한 줄, 기본 키로 여러 노드의 동시 실행을 막음)
+@Entity
+@Table(name = "category_count_migrations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryCountMigration {
+
+    @Id
+    private String version;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,16 @@
+package com.example.commerce_mvp.domain.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategoryCountRepository extends JpaRepository<CategoryCount, Long>, CategoryCountUpsertRepository {
+
+    // 전체 카테고리 목록 (집계 테이블만 읽음)
+    List<CategoryCount> findAllByOrderByCategory1AscCategory2Asc();
+
+    // 대분류 아래 중분류 목록
+    List<CategoryCount> findByCategory1OrderByCategory2Asc(String category1);
+}
@@ -0,0 +1,19 @@
+package com.example.commerce_mvp.domain.product;
+
+import java.util.Map;
+
+// 카테고리별 상품 수 집계 전용 쓰기 경로 (CategoryCountRepository에 합쳐서 사용)
+public interface CategoryCountUpsertRepository {
+
+    /**
+     * 카테고리 쌍마다 상품 수를 더한다. 집계 행이 없으면 새로 추가한다.
+     * category_counts(category1, category2) 유니크 제약에 기대므로 같은 카테고리가 동시에 처음 생겨도 행이 중복되지 않는다.
+     */
+    void increment(Map<ProductCategory, Integer> countsByCategory);
+
+    /**
+     * 카테고리가 NULL인 상품을 빈 문자열로 바꾸고 product 테이블에서 집계를 다시 만든다 (기존 행은 모두 지움).
+     * 같은 version은 전체 노드를 통틀어 한 번만 실행되며, 이미 실행됐으면 -1을, 아니면 만들어진 카테고리 쌍의 수를 반환한다.
+     */
+    int rebuildOnce(String version);
+}
@@ -0,0 +1,84 @@
+package com.example.commerce_mvp.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * MySQL은 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 처리한다.
+ * 그 외(H2 등)는 UPDATE 후 갱신된 행이 없을 때만 INSERT하고, 다른 트랜잭션이 먼저 넣어 유니크 제약에 걸리면 다시 UPDATE한다.
+ * (CartUpsertRepositoryImpl과 같은 이유로 JdbcTemplate을 사용)
+ */
+@RequiredArgsConstructor
+public class CategoryCountUpsertRepositoryImpl implements CategoryCountUpsertRepository {
+
+    private static final String MYSQL_UPSERT =
+            "INSERT INTO category_counts (category1, category2, product_count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE product_count = product_count + VALUES(product_count)";
+    private static final String INCREMENT =
+            "UPDATE category_counts SET product_count = product_count + ? WHERE category1 = ? AND category2 = ?";
+    private static final String INSERT =
+            "INSERT INTO category_counts (category1, category2, product_count) VALUES (?, ?, ?)";
+    private static final String RECORD_MIGRATION =
+            "INSERT INTO category_count_migrations (version, applied_at) VALUES (?, ?)";
+    // 목록 조회는 category1 = ? 비교를 쓰므로 NULL로 남은 상품은 집계에만 잡히고 목록에는 나오지 않음
+    private static final String NORMALIZE_CATEGORY1 = "UPDATE product SET category1 = '' WHERE category1 IS NULL";
+    private static final String NORMALIZE_CATEGORY2 = "UPDATE product SET category2 = '' WHERE category2 IS NULL";
+    private static final String DELETE_ALL = "DELETE FROM category_counts";
+    private static final String REBUILD =
+            "INSERT INTO category_counts (category1, category2, product_count) " +
+            "SELECT category1, category2, COUNT(*) FROM product GROUP BY category1, category2";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean mysql;
+
+    @Override
+    public void increment(Map<ProductCategory, Integer> countsByCategory) {
+        // 한 번에 저장되는 상품의 카테고리 종류는 몇 개뿐이므로 카테고리마다 한 문장씩 처리
+        countsByCategory.forEach((category, count) -> {
+            if (isMySql()) {
+                jdbcTemplate.update(MYSQL_UPSERT, category.category1(), category.category2(), count);
+                return;
+            }
+            if (jdbcTemplate.update(INCREMENT, count, category.category1(), category.category2()) > 0) {
+                return;
+            }
+            try {
+                jdbcTemplate.update(INSERT, category.category1(), category.category2(), count);
+            } catch (DuplicateKeyException e) {
+                // 다른 트랜잭션이 먼저 추가한 행에 더함
+                jdbcTemplate.update(INCREMENT, count, category.category1(), category.category2());
+            }
+        });
+    }
+
+    @Override
+    public int rebuildOnce(String version) {
+        // 실행 기록을 먼저 남김 - 다른 노드가 같은 버전을 실행 중이면 그 트랜잭션이 끝날 때까지 기다렸다가 중복 키로 실패
+        try {
+            jdbcTemplate.update(RECORD_MIGRATION, version, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            return -1;
+        }
+        jdbcTemplate.update(NORMALIZE_CATEGORY1);
+        jdbcTemplate.update(NORMALIZE_CATEGORY2);
+        jdbcTemplate.update(DELETE_ALL);
+        return jdbcTemplate.update(REBUILD);
+    }
+
+    private boolean isMySql() {
+        Boolean cached = mysql;
+        if (cached == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            cached = productName != null && productName.toLowerCase().contains("mysql");
+            mysql = cached;
+        }
+        return cached;
+    }
+}
@@ -4,11 +4,20 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.jpa.repository.Lock;
 
 @Entity
+@Table(indexes = {
+        // 카테고리별 키셋 페이징 (category1, category2, id 오름차순)
+        @Index(name = "idx_product_category", columnList = "category1, category2, id"),
+        // 가격순 키셋 페이징 (오름차순은 정방향, 내림차순은 역방향 스캔)
+        @Index(name = "idx_product_price", columnList = "price, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 주문 아이템 등에서 지연 로딩되는 상품 프록시를 IN 쿼리로 묶어서 초기화
+@BatchSize(size = 100)
 public class Product {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +32,10 @@ public class Product {
     private String category1;
     private String category2;
 
+    // 0이면 stock 컬럼 사용, 1 이상이면 재고를 ProductStockBucket 행으로 분할 (핫 상품 전용)
+    @Column(nullable = false)
+    private int stockBucketCount;
+
     //이 매개변수들로 객체를 만든다
     public static Product of(String name, int price, String imageUrl, String naverProductId, String category1, String category2){
         Product product = new Product();
@@ -31,13 +44,44 @@ public class Product {
         product.imageUrl = imageUrl;
         product.naverProductId = naverProductId;
         product.stock = 100;
-        product.category1 = category1;
-        product.category2 = category2;
+        // 카테고리가 없으면 빈 문자열로 저장 (NULL은 키셋 비교와 카테고리 집계에서 빠지므로)
+        product.category1 = category1 == null ? "" : category1;
+        product.category2 = category2 == null ? "" : category2;
         return product;
     }
 
+    // stock 컬럼 값. 분할된 상품은 0이며 판매 가능 재고는 버킷 합계를 조회하는 쿼리에서만 계산한다
+    public int getStock() {
+        return stock;
+    }
+
+    public boolean isStockSharded() {
+        return stockBucketCount > 0;
+    }
+
+    // 재고를 버킷으로 분할하고 분할 직전의 재고를 반환 (이후 stock 컬럼은 사용하지 않음)
+    public int enableStockSharding(int bucketCount) {
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("버킷 수는 0보다 커야 합니다.");
+        }
+        if (isStockSharded()) {
+            throw new IllegalStateException("이미 재고가 분할된 상품입니다.");
+        }
+        int currentStock = this.stock;
+        this.stock = 0;
+        this.stockBucketCount = bucketCount;
+        return currentStock;
+    }
+
+    // 버킷 합계를 다시 stock 컬럼으로 합침
+    public void disableStockSharding(int totalStock) {
+        this.stockBucketCount = 0;
+        this.stock = totalStock;
+    }
+
     // 재고 업데이트
     public void updateStock(int newStock) {
+        checkNotSharded();
         if (newStock < 0) {
             throw new IllegalArgumentException("재고는 0보다 작을 수 없습니다.");
         }
@@ -46,6 +90,7 @@ public class Product {
 
     // 재고 차감 (동시성 제어)
     public void decreaseStock(int quantity) {
+        checkNotSharded();
         if (quantity <= 0) {
             throw new IllegalArgumentException("수량은 0보다 커야 합니다.");
         }
@@ -57,6 +102,14 @@ public class Product {
 
     // 재고 증가
     public void increaseStock(int quantity) {
+        checkNotSharded();
         this.stock += quantity;
     }
+
+    // 분할된 재고는 버킷 단위로만 변경
+    private void checkNotSharded() {
+        if (isStockSharded()) {
+            throw new IllegalStateException("버킷으로 분할된 재고는 직접 변경할 수 없습니다. 상품 ID: " + id);
+        }
+    }
 }
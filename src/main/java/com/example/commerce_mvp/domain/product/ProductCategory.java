@@ -0,0 +1,5 @@
+package com.example.commerce_mvp.domain.product;
+
+// 상품 카테고리 쌍 (category1 > category2). 카테고리별 상품 수 집계의 키
+public record ProductCategory(String category1, String category2) {
+}
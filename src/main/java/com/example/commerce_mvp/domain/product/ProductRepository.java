@@ -1,9 +1,9 @@
 package com.example.commerce_mvp.domain.product;
 
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,18 +16,132 @@ import java.util.Optional;
 public interface ProductRepository extends JpaRepository<Product, Long> {
     boolean existsByNaverProductId(String naverProductId);
 
-    @Query("SELECT p FROM Product p WHERE p.id > :cursorId ORDER BY p.id ASC")
-    Slice<Product> findProductsAfterCursor(@Param("cursorId") Long cursorId, Pageable pageable);
+    // 상품 목록 첫 페이지 (엔티티 대신 목록에 필요한 컬럼만 프로젝션으로 조회)
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p ORDER BY p.id ASC")
+    List<ProductSummary> findSummaries(Pageable pageable);
 
-    Slice<Product> findAllByOrderByIdAsc(Pageable pageable);
+    // 상품 목록 다음 페이지 - cursorId 이후 상품부터 조회
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.id > :cursorId ORDER BY p.id ASC")
+    List<ProductSummary> findSummariesAfter(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 카테고리 쌍 안에서 cursorId 이후 상품 (idx_product_category의 (category1, category2) 일치 + id 범위)
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.category1 = :category1 AND p.category2 = :category2 AND p.id > :cursorId ORDER BY p.id ASC")
+    List<ProductSummary> findSummariesByCategoryAfter(@Param("category1") String category1,
+                                                      @Param("category2") String category2,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
+
+    // 대분류 전체 첫 페이지 (category2, id 순서)
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.category1 = :category1 ORDER BY p.category2 ASC, p.id ASC")
+    List<ProductSummary> findFirstSummariesByCategory1(@Param("category1") String category1, Pageable pageable);
+
+    // 대분류 전체 다음 페이지 - (category2, id) 복합 커서 이후
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.category1 = :category1 " +
+            "AND (p.category2 > :category2 OR (p.category2 = :category2 AND p.id > :cursorId)) " +
+            "ORDER BY p.category2 ASC, p.id ASC")
+    List<ProductSummary> findSummariesByCategory1After(@Param("category1") String category1,
+                                                       @Param("category2") String category2,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+
+    // 가격 낮은 순 첫 페이지 (가격 구간 필터)
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.price BETWEEN :minPrice AND :maxPrice ORDER BY p.price ASC, p.id ASC")
+    List<ProductSummary> findSummariesByPriceAsc(@Param("minPrice") int minPrice,
+                                                 @Param("maxPrice") int maxPrice,
+                                                 Pageable pageable);
+
+    // 가격 낮은 순 다음 페이지 - (price, id) 커서 이후
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.price BETWEEN :minPrice AND :maxPrice " +
+            "AND (p.price > :price OR (p.price = :price AND p.id > :cursorId)) " +
+            "ORDER BY p.price ASC, p.id ASC")
+    List<ProductSummary> findSummariesByPriceAscAfter(@Param("minPrice") int minPrice,
+                                                      @Param("maxPrice") int maxPrice,
+                                                      @Param("price") int price,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
+
+    // 가격 높은 순 첫 페이지 (가격 구간 필터)
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.price BETWEEN :minPrice AND :maxPrice ORDER BY p.price DESC, p.id DESC")
+    List<ProductSummary> findSummariesByPriceDesc(@Param("minPrice") int minPrice,
+                                                  @Param("maxPrice") int maxPrice,
+                                                  Pageable pageable);
+
+    // 가격 높은 순 다음 페이지 - (price, id) 커서 이전
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.price BETWEEN :minPrice AND :maxPrice " +
+            "AND (p.price < :price OR (p.price = :price AND p.id < :cursorId)) " +
+            "ORDER BY p.price DESC, p.id DESC")
+    List<ProductSummary> findSummariesByPriceDescAfter(@Param("minPrice") int minPrice,
+                                                       @Param("maxPrice") int maxPrice,
+                                                       @Param("price") int price,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+
+    // 최신 등록 순 (cursorId보다 먼저 등록된 상품, 첫 페이지는 Long.MAX_VALUE) - 기본 키 역방향으로 필요한 행만 읽음
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p " +
+            "WHERE p.id < :cursorId ORDER BY p.id DESC")
+    List<ProductSummary> findSummariesNewestBefore(@Param("cursorId") Long cursorId,
+                                                   Pageable pageable);
+
+    // 검색 결과 등 ID로 고른 상품을 프로젝션으로 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query("SELECT new com.example.commerce_mvp.domain.product.ProductSummary(" +
+            "p.id, p.name, p.imageUrl, p.price, p.category1, p.category2) FROM Product p WHERE p.id IN :ids")
+    List<ProductSummary> findSummariesByIds(@Param("ids") List<Long> ids);
 
     // 동시성 제어를 위한 Pessimistic Lock
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
-    // 여러 상품을 동시에 Lock
+    // 여러 상품을 동시에 Lock (교착 상태 방지를 위해 항상 ID 오름차순으로 잠금)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT p FROM Product p WHERE p.id IN :ids")
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id ASC")
     List<Product> findByIdsWithLock(@Param("ids") List<Long> ids);
+
+    // 존재하는 상품 ID만 조회 (엔티티를 읽지 않고 IN 조회 한 번으로 확인)
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
+
+    // 재고가 버킷으로 분할된 상품 ID (엔티티를 읽지 않고 ID만 조회)
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND p.stockBucketCount > 0")
+    List<Long> findStockShardedIds(@Param("ids") List<Long> ids);
+
+    @Query("SELECT p.id FROM Product p WHERE p.stockBucketCount > 0")
+    List<Long> findAllStockShardedIds();
+
+    // 재고가 충분할 때만 차감 (영향받은 행 수가 0이면 재고 부족)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 재고 복구
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 재고 변동분 반영 (음수면 차감, 재고가 버킷으로 분할된 상품은 갱신하지 않음)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :delta WHERE p.id = :id AND p.stockBucketCount = 0")
+    int applyStockDelta(@Param("id") Long id, @Param("delta") int delta);
+
+    // 영속성 컨텍스트를 거치지 않고 현재 재고 컬럼 값만 조회
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id);
 }
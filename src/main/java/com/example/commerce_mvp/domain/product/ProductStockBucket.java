@@ -0,0 +1,52 @@
+package com.example.commerce_mvp.domain.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 핫 상품의 재고를 여러 행으로 나눠 보관하는 버킷 (행 잠금 경합 분산용)
+@Entity
+@Table(name = "product_stock_bucket",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_bucket", columnNames = {"product_id", "bucket_index"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "bucket_index", nullable = false)
+    private int bucketIndex;
+
+    @Column(nullable = false)
+    private int stock;
+
+    public static ProductStockBucket of(Long productId, int bucketIndex, int stock) {
+        ProductStockBucket bucket = new ProductStockBucket();
+        bucket.productId = productId;
+        bucket.bucketIndex = bucketIndex;
+        bucket.stock = stock;
+        return bucket;
+    }
+
+    // 버킷 재고 차감 (잠금을 잡은 상태에서만 호출)
+    public void decreaseStock(int quantity) {
+        if (this.stock < quantity) {
+            throw new IllegalStateException("버킷 재고가 부족합니다. 현재 재고: " + this.stock + ", 요청 수량: " + quantity);
+        }
+        this.stock -= quantity;
+    }
+
+    // 재분배 시 버킷 재고 설정
+    public void updateStock(int newStock) {
+        if (newStock < 0) {
+            throw new IllegalArgumentException("재고는 0보다 작을 수 없습니다.");
+        }
+        this.stock = newStock;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.commerce_mvp.domain.product;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductStockBucketRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    // 요청 수량을 한 번에 감당할 수 있는 버킷 인덱스 (잠금 없는 조회, 차감 후보)
+    @Query("SELECT b.bucketIndex FROM ProductStockBucket b WHERE b.productId = :productId AND b.stock >= :quantity")
+    List<Integer> findBucketIndexesWithStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 버킷 재고가 충분할 때만 차감 (영향받은 행 수가 0이면 다른 버킷을 시도)
+    @Modifying
+    @Query("UPDATE ProductStockBucket b SET b.stock = b.stock - :quantity " +
+            "WHERE b.productId = :productId AND b.bucketIndex = :bucketIndex AND b.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("productId") Long productId,
+                                 @Param("bucketIndex") int bucketIndex,
+                                 @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE ProductStockBucket b SET b.stock = b.stock + :quantity " +
+            "WHERE b.productId = :productId AND b.bucketIndex = :bucketIndex")
+    int increaseStock(@Param("productId") Long productId,
+                      @Param("bucketIndex") int bucketIndex,
+                      @Param("quantity") int quantity);
+
+    // 재분배가 필요한지 판단하는 잠금 없는 조회 (엔티티를 영속성 컨텍스트에 올리지 않도록 값만 조회)
+    @Query("SELECT b.stock FROM ProductStockBucket b WHERE b.productId = :productId")
+    List<Integer> findStocksByProductId(@Param("productId") Long productId);
+
+    // 여러 버킷에 걸친 차감/재분배용 (교착 상태 방지를 위해 항상 인덱스 오름차순으로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ProductStockBucket b WHERE b.productId = :productId ORDER BY b.bucketIndex ASC")
+    List<ProductStockBucket> findByProductIdWithLock(@Param("productId") Long productId);
+}
@@ -0,0 +1,13 @@
+package com.example.commerce_mvp.domain.product;
+
+/**
+ * 상품 목록 한 줄 (목록 응답에 필요한 컬럼만 담은 읽기 전용 프로젝션).
+ * 엔티티가 아니므로 영속성 컨텍스트 스냅샷이나 변경 감지 대상이 되지 않는다.
+ */
+public record ProductSummary(Long id,
+                             String name,
+                             String imageUrl,
+                             int price,
+                             String category1,
+                             String category2) {
+}
@@ -0,0 +1,33 @@
+package com.example.commerce_mvp.domain.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 재고 저널 중 Product 테이블에 반영이 끝난 마지막 순번 (반영과 같은 트랜잭션에서 갱신)
+@Entity
+@Table(name = "stock_journal_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockJournalCheckpoint {
+
+    @Id
+    private String journalId;
+
+    @Column(nullable = false)
+    private long lastSeq;
+
+    public static StockJournalCheckpoint of(String journalId, long lastSeq) {
+        StockJournalCheckpoint checkpoint = new StockJournalCheckpoint();
+        checkpoint.journalId = journalId;
+        checkpoint.lastSeq = lastSeq;
+        return checkpoint;
+    }
+
+    public void advance(long seq) {
+        if (seq > this.lastSeq) {
+            this.lastSeq = seq;
+        }
+    }
+}
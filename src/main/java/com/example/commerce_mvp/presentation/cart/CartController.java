@@ -2,6 +2,8 @@ package com.example.commerce_mvp.presentation.cart;
 
 import com.example.commerce_mvp.application.cart.CartService;
 import com.example.commerce_mvp.application.cart.dto.AddCartItemRequestDto;
+import com.example.commerce_mvp.application.cart.dto.CartBatchRequestDto;
+import com.example.commerce_mvp.application.cart.dto.CartBatchResponseDto;
 import com.example.commerce_mvp.application.cart.dto.CartItemResponseDto;
 import com.example.commerce_mvp.application.cart.dto.CartSummaryResponseDto;
 import com.example.commerce_mvp.application.cart.dto.CreateOrderFromCartRequestDto;
@@ -10,18 +12,21 @@ import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
 import com.example.commerce_mvp.application.common.dto.SliceResponse;
 import com.example.commerce_mvp.application.user.UserPrincipal;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/cart")
 @RequiredArgsConstructor
+@Validated
 public class CartController {
 
     private final CartService cartService;
@@ -37,15 +42,26 @@ public class CartController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/items/batch")
+    public ResponseEntity<CartBatchResponseDto> applyCartBatch(
+            @Valid @RequestBody CartBatchRequestDto request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        CartBatchResponseDto response = cartService.applyBatch(request);
+
+        log.info("장바구니 일괄 변경 API 호출 - 사용자: {}, 연산 수: {}", currentUser.getEmail(), request.getOperations().size());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/items")
     public ResponseEntity<SliceResponse<CartItemResponseDto>> getCartItems(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
             @AuthenticationPrincipal UserPrincipal currentUser) {
         
-        SliceResponse<CartItemResponseDto> response = cartService.getCartItems(page, size);
+        SliceResponse<CartItemResponseDto> response = cartService.getCartItems(cursor, size);
         
-        log.info("장바구니 조회 API 호출 - 사용자: {}, 페이지: {}, 크기: {}", currentUser.getEmail(), page, size);
+        log.info("장바구니 조회 API 호출 - 사용자: {}, 크기: {}", currentUser.getEmail(), size);
         return ResponseEntity.ok(response);
     }
 
@@ -58,7 +74,6 @@ public class CartController {
     }
 
     @PatchMapping("/items/{cartItemId}")
-    @PreAuthorize("authentication.name == @cartService.getCartItemOwnerEmail(#cartItemId)")
     public ResponseEntity<CartItemResponseDto> updateCartItem(
             @PathVariable Long cartItemId,
             @Valid @RequestBody UpdateCartItemRequestDto request,
@@ -71,7 +86,6 @@ public class CartController {
     }
 
     @DeleteMapping("/items/{cartItemId}")
-    @PreAuthorize("authentication.name == @cartService.getCartItemOwnerEmail(#cartItemId)")
     public ResponseEntity<Void> removeCartItem(
             @PathVariable Long cartItemId,
             @AuthenticationPrincipal UserPrincipal currentUser) {
@@ -4,24 +4,33 @@ import com.example.commerce_mvp.application.common.dto.SliceResponse;
 import com.example.commerce_mvp.application.order.OrderService;
 import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
 import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
+import com.example.commerce_mvp.application.order.dto.OrderTicketResponseDto;
+import com.example.commerce_mvp.application.order.ticket.OrderTicketService;
 import com.example.commerce_mvp.application.user.UserPrincipal;
 import com.example.commerce_mvp.domain.order.OrderStatus;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
+@Validated
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderTicketService orderTicketService;
 
     @PostMapping
     public ResponseEntity<OrderResponseDto> createOrder(
@@ -34,6 +43,29 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // 대기열 주문 - 즉시 티켓을 반환하고 결과는 티켓 조회로 확인
+    @PostMapping("/async")
+    public ResponseEntity<OrderTicketResponseDto> createOrderAsync(
+            @Valid @RequestBody CreateOrderRequestDto request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        OrderTicketResponseDto response = orderTicketService.submit(currentUser.getEmail(), request);
+
+        log.info("대기열 주문 API 호출 - 티켓: {}, 사용자: {}", response.getTicketId(), currentUser.getEmail());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/tickets/" + response.getTicketId()))
+                .body(response);
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<OrderTicketResponseDto> getOrderTicket(
+            @PathVariable String ticketId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        OrderTicketResponseDto response = orderTicketService.getTicket(ticketId, currentUser.getEmail());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponseDto> getOrder(
             @PathVariable Long orderId,
@@ -47,13 +79,13 @@ public class OrderController {
 
     @GetMapping
     public ResponseEntity<SliceResponse<OrderResponseDto>> getMyOrders(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
             @AuthenticationPrincipal UserPrincipal currentUser) {
 
-        SliceResponse<OrderResponseDto> response = orderService.getMyOrders(currentUser.getEmail(), page, size);
+        SliceResponse<OrderResponseDto> response = orderService.getMyOrders(currentUser.getEmail(), cursor, size);
 
-        log.info("내 주문 목록 조회 API 호출 - 사용자: {}, 페이지: {}, 크기: {}", currentUser.getEmail(), page, size);
+        log.info("내 주문 목록 조회 API 호출 - 사용자: {}, 크기: {}", currentUser.getEmail(), size);
         return ResponseEntity.ok(response);
     }
 
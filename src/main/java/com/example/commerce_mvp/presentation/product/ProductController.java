@@ -4,12 +4,20 @@ package com.example.commerce_mvp.presentation.product;
 import com.example.commerce_mvp.application.common.dto.SliceResponse;
 import com.example.commerce_mvp.application.product.ProductSearchUseCase;
 import com.example.commerce_mvp.application.product.ProductService;
+import com.example.commerce_mvp.application.product.ProductSort;
+import com.example.commerce_mvp.application.product.ProductSuggestService;
+import com.example.commerce_mvp.application.product.ShardedStockService;
+import com.example.commerce_mvp.application.product.dto.CategoryCountDto;
 import com.example.commerce_mvp.application.product.dto.ProductDto;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,14 +31,74 @@ public class ProductController {
 
     private final ProductSearchUseCase productSearchUseCase;
     private final ProductService productService;
+    private final ProductSuggestService productSuggestService;
+    private final ShardedStockService shardedStockService;
 
-    //DB의 상품 목록을 조회(커서 기반)
+    //DB의 상품 목록을 조회(커서 기반, 직렬화된 응답을 캐시에서 그대로 내려줌)
     @GetMapping
-    public ResponseEntity<SliceResponse<ProductDto>> getProducts(
+    public ResponseEntity<byte[]> getProducts(
             @RequestParam(required = false) Long cursorId,
             @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size){
-        SliceResponse<ProductDto> response = productService.getProductList(cursorId, size);
-        return ResponseEntity.ok(response);
+        byte[] response = productService.getProductListJson(cursorId, size);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    //여러 상품을 ID로 한 번에 조회 (장바구니/주문 확인 화면용, 없는 ID는 제외)
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<ProductDto>> getProductsByIds(
+            @RequestParam @NotEmpty @Size(max = 100, message = "한 번에 최대 100개까지 조회할 수 있습니다.") List<Long> ids){
+        return ResponseEntity.ok(productService.getProducts(ids));
+    }
+
+    //상품 상세 조회
+    @GetMapping("/{productId}")
+    public ResponseEntity<ProductDto> getProduct(@PathVariable Long productId){
+        return ResponseEntity.ok(productService.getProduct(productId));
+    }
+
+    //정렬된 상품 목록 (가격순/최신순, 가격 구간 필터는 가격순만, 커서 기반)
+    @GetMapping("/sorted")
+    public ResponseEntity<SliceResponse<ProductDto>> getSortedProducts(
+            @RequestParam ProductSort sort,
+            @RequestParam(required = false) @Min(0) Integer minPrice,
+            @RequestParam(required = false) @Min(0) Integer maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size){
+        return ResponseEntity.ok(productService.getSortedProducts(sort, minPrice, maxPrice, cursor, size));
+    }
+
+    //카테고리별 상품 목록 (category2가 없으면 대분류 전체, 커서 기반)
+    @GetMapping("/by-category")
+    public ResponseEntity<SliceResponse<ProductDto>> getProductsByCategory(
+            @RequestParam @NotBlank(message = "대분류는 필수입니다.") String category1,
+            @RequestParam(required = false) String category2,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size){
+        return ResponseEntity.ok(productService.getProductsByCategory(category1, category2, cursor, size));
+    }
+
+    //카테고리별 상품 수 (미리 집계된 값, category1이 있으면 그 아래 중분류만)
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategoryCountDto>> getCategoryCounts(@RequestParam(required = false) String category1){
+        return ResponseEntity.ok(productService.getCategoryCounts(category1));
+    }
+
+    //상품 이름/카테고리 검색 (노드 로컬 역색인, 점수 순)
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductDto>> searchProducts(
+            @RequestParam @NotBlank(message = "검색어는 필수입니다.") String q,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size){
+        return ResponseEntity.ok(productService.searchProducts(q, size));
+    }
+
+    //상품 이름 자동완성 (인기도 순, 주기적으로 재생성되는 메모리 색인)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggestProductNames(
+            @RequestParam @NotBlank(message = "검색어는 필수입니다.") String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(10) int size){
+        return ResponseEntity.ok(productSuggestService.suggest(prefix, size));
     }
 
     //네이버 API로 상품을 검색하고 DB에 저장
@@ -40,4 +108,22 @@ public class ProductController {
         return ResponseEntity.ok(query + " 상품 정보가 DB에 저장되었습니다.");
     }
 
+    //핫 상품의 재고를 여러 버킷 행으로 분할 (관리자 전용)
+    @PostMapping("/{productId}/stock-buckets")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> enableStockSharding(
+            @PathVariable Long productId,
+            @RequestParam @Min(2) @Max(64) int bucketCount){
+        shardedStockService.enableSharding(productId, bucketCount);
+        return ResponseEntity.ok(productId + " 상품 재고가 " + bucketCount + "개 버킷으로 분할되었습니다.");
+    }
+
+    //분할된 재고를 다시 하나로 합침 (관리자 전용)
+    @DeleteMapping("/{productId}/stock-buckets")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> disableStockSharding(@PathVariable Long productId){
+        shardedStockService.disableSharding(productId);
+        return ResponseEntity.ok(productId + " 상품 재고 분할이 해제되었습니다.");
+    }
+
 }
@@ -0,0 +1,195 @@
+package com.example.commerce_mvp.application;
+
+import com.example.commerce_mvp.application.cart.CartService;
+import com.example.commerce_mvp.application.cart.dto.CartItemResponseDto;
+import com.example.commerce_mvp.application.cart.dto.CartSummaryResponseDto;
+import com.example.commerce_mvp.application.cart.dto.UpdateCartItemRequestDto;
+import com.example.commerce_mvp.application.common.dto.SliceResponse;
+import com.example.commerce_mvp.application.order.OrderService;
+import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
+import com.example.commerce_mvp.application.user.UserPrincipal;
+import com.example.commerce_mvp.domain.cart.Cart;
+import com.example.commerce_mvp.domain.cart.CartRepository;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.order.OrderItem;
+import com.example.commerce_mvp.domain.order.OrderRepository;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRepository;
+import com.example.commerce_mvp.domain.user.UserRole;
+import com.example.commerce_mvp.support.QueryCountInspector;
+import com.example.commerce_mvp.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 API의 SQL 실행 횟수 상한을 검증한다.
+ * 지연 로딩으로 N+1 쿼리가 다시 생기면 결과 건수에 비례해 쿼리 수가 늘어나 이 테스트가 실패한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.commerce_mvp.support.QueryCountInspector"
+})
+@Transactional
+class QueryBudgetTest {
+
+    private static final int ORDER_COUNT = 10;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private final List<Order> orders = new ArrayList<>();
+    private final List<Cart> carts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(TestFixtures.createUser("budget@example.com", UserRole.USER));
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT * ITEMS_PER_ORDER; i++) {
+            products.add(productRepository.save(Product.of("상품" + i, 1000 + i, "https://example.com/" + i,
+                    "budget-" + i, "category1", "category2")));
+        }
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.createOrder(user, "주소", "010-0000-0000", "홍길동");
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                order.addOrderItem(OrderItem.createOrderItem(products.get(i * ITEMS_PER_ORDER + j), 1));
+            }
+            order.calculateTotalAmount();
+            orders.add(orderRepository.save(order));
+        }
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            carts.add(cartRepository.save(Cart.builder().user(user).product(products.get(i)).quantity(1).build()));
+        }
+
+        // 영속성 컨텍스트에 남은 엔티티로 쿼리가 가려지지 않도록 비움
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("getMyOrders - 주문 수와 상관없이 사용자, 주문, 주문 아이템, 상품 조회 4번 이내로 끝난다")
+    void getMyOrders_withinBudget() {
+        SliceResponse<OrderResponseDto> response = countQueries(4,
+                () -> orderService.getMyOrders(user.getEmail(), null, ORDER_COUNT));
+
+        assertThat(response.getContent()).hasSize(ORDER_COUNT);
+        assertThat(response.getContent().get(0).getOrderItems()).hasSize(ITEMS_PER_ORDER);
+    }
+
+    @Test
+    @DisplayName("getOrder - 주문, 사용자, 주문 아이템, 상품을 쿼리 1번으로 조회한다")
+    void getOrder_withinBudget() {
+        UserPrincipal principal = new UserPrincipal(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        OrderResponseDto response = countQueries(1,
+                () -> orderService.getOrder(orders.get(0).getId(), user.getEmail()));
+
+        assertThat(response.getOrderItems()).hasSize(ITEMS_PER_ORDER);
+    }
+
+    @Test
+    @DisplayName("getCartItems - 장바구니 아이템 수와 상관없이 쿼리 2번 이내로 끝난다")
+    void getCartItems_withinBudget() {
+        UserPrincipal principal = new UserPrincipal(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        SliceResponse<CartItemResponseDto> response = countQueries(2,
+                () -> cartService.getCartItems(null, ORDER_COUNT));
+
+        assertThat(response.getContent()).hasSize(ORDER_COUNT);
+    }
+
+    @Test
+    @DisplayName("getCartSummary - 장바구니 요약을 쿼리 1번으로 계산한다")
+    void getCartSummary_withinBudget() {
+        UserPrincipal principal = new UserPrincipal(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        CartSummaryResponseDto summary = countQueries(1, () -> cartService.getCartSummary());
+
+        assertThat(summary.getTotalItems()).isEqualTo(ORDER_COUNT);
+    }
+
+    @Test
+    @DisplayName("updateCartItem - 소유자 조건 UPDATE와 응답용 프로젝션 조회 2번으로 끝난다")
+    void updateCartItem_withinBudget() {
+        UserPrincipal principal = new UserPrincipal(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        CartItemResponseDto response = countQueries(2,
+                () -> cartService.updateCartItem(carts.get(0).getId(), new UpdateCartItemRequestDto(3)));
+
+        assertThat(response.getQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("removeCartItem - 소유자 조건 DELETE 1번으로 끝난다")
+    void removeCartItem_withinBudget() {
+        UserPrincipal principal = new UserPrincipal(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        countQueries(1, () -> {
+            cartService.removeCartItem(carts.get(0).getId());
+            return null;
+        });
+
+        assertThat(cartRepository.existsById(carts.get(0).getId())).isFalse();
+    }
+
+    private <T> T countQueries(int budget, Supplier<T> action) {
+        QueryCountInspector.reset();
+        T result = action.get();
+        assertThat(QueryCountInspector.count())
+                .as("SQL 실행 횟수 상한 초과")
+                .isLessThanOrEqualTo(budget);
+        return result;
+    }
+}
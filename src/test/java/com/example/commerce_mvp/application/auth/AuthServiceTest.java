@@ -3,6 +3,7 @@ package com.example.commerce_mvp.application.auth;
 import com.example.commerce_mvp.application.auth.dto.TokenResponseDto;
 import com.example.commerce_mvp.application.common.exception.BusinessException;
 import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.user.UserPrincipal;
 import com.example.commerce_mvp.config.JwtTokenProvider;
 import com.example.commerce_mvp.domain.auth.RefreshToken;
 import com.example.commerce_mvp.domain.auth.RefreshTokenRepository;
@@ -58,7 +59,7 @@ class AuthServiceTest {
         when(refreshTokenRepository.findByToken(oldRefreshToken)).thenReturn(Optional.of(storedRefreshToken));
         when(jwtTokenProvider.validateRefreshToken(oldRefreshToken)).thenReturn(true);
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(jwtTokenProvider.generateAccessToken(eq(user.getEmail()), any())).thenReturn(newAccessToken);
+        when(jwtTokenProvider.generateAccessToken(any(UserPrincipal.class))).thenReturn(newAccessToken);
         when(jwtTokenProvider.generateRefreshToken()).thenReturn(newRefreshToken);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -68,6 +69,11 @@ class AuthServiceTest {
         assertThat(response.getRefreshToken()).isEqualTo(newRefreshToken);
         assertThat(response.getGrantType()).isEqualTo("Bearer");
 
+        ArgumentCaptor<UserPrincipal> principalCaptor = ArgumentCaptor.forClass(UserPrincipal.class);
+        verify(jwtTokenProvider).generateAccessToken(principalCaptor.capture());
+        assertThat(principalCaptor.getValue().getEmail()).isEqualTo(user.getEmail());
+        assertThat(principalCaptor.getValue().getRole()).isEqualTo(UserRole.USER);
+
         verify(refreshTokenRepository).deleteByToken(oldRefreshToken);
 
         ArgumentCaptor<RefreshToken> refreshTokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
@@ -155,5 +161,6 @@ class AuthServiceTest {
         authService.revokeAllUserTokens(userEmail);
 
         verify(refreshTokenRepository).deleteByUserEmail(userEmail);
+        verify(jwtTokenProvider).markClaimsStale(userEmail);
     }
 }
@@ -0,0 +1,141 @@
+package com.example.commerce_mvp.application.cart;
+
+import com.example.commerce_mvp.application.cart.dto.CreateOrderFromCartRequestDto;
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.LockRetryTemplate;
+import com.example.commerce_mvp.application.order.OrderPlacer;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
+import com.example.commerce_mvp.domain.cart.CartLineView;
+import com.example.commerce_mvp.domain.cart.CartRepository;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRepository;
+import com.example.commerce_mvp.domain.user.UserRole;
+import com.example.commerce_mvp.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartCheckoutPipelineTest {
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrderPlacer orderPlacer;
+
+    @Mock
+    private LockRetryTemplate lockRetryTemplate;
+
+    private CartCheckoutPipeline pipeline;
+    private User user;
+
+    private final CreateOrderFromCartRequestDto request = CreateOrderFromCartRequestDto.builder()
+            .shippingAddress("서울시")
+            .shippingName("홍길동")
+            .shippingPhone("010-0000-0000")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new CartCheckoutPipeline(cartRepository, userRepository, orderPlacer, lockRetryTemplate,
+                new CartViewCache(100, 60000, new SimpleMeterRegistry()));
+        user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        when(lockRetryTemplate.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    @DisplayName("checkout - 장바구니를 한 번 읽어 주문을 만들고 구매한 장바구니 행을 삭제한다")
+    void checkout_success() {
+        LocalDateTime now = LocalDateTime.now();
+        when(cartRepository.findLineViewsByUserId(7L)).thenReturn(List.of(
+                new CartLineView(1L, 11L, "상품1", 10000, "https://example.com/1", 1, 10, now, now),
+                new CartLineView(2L, 12L, "상품2", 15000, "https://example.com/2", 2, 5, now, now)));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        Order order = Order.createOrder(user, "서울시", "010-0000-0000", "홍길동");
+        TestFixtures.setId(order, 99L);
+        when(orderPlacer.place(eq(user), any(CreateOrderRequestDto.class))).thenReturn(order);
+
+        OrderResponseDto response = pipeline.checkout(7L, request);
+
+        assertThat(response.getOrderId()).isEqualTo(99L);
+
+        ArgumentCaptor<CreateOrderRequestDto> orderRequestCaptor = ArgumentCaptor.forClass(CreateOrderRequestDto.class);
+        verify(orderPlacer).place(eq(user), orderRequestCaptor.capture());
+        assertThat(orderRequestCaptor.getValue().getOrderItems())
+                .extracting(CreateOrderRequestDto.OrderItemRequestDto::getProductId)
+                .containsExactly(11L, 12L);
+        assertThat(orderRequestCaptor.getValue().getOrderItems().get(1).getQuantity()).isEqualTo(2);
+
+        verify(cartRepository).deleteByUserIdAndIdIn(7L, List.of(1L, 2L));
+        verify(cartRepository, never()).findOutOfStockItemsByUser(any());
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("checkout - 장바구니가 비어있으면 예외가 발생한다")
+    void checkout_emptyCart() {
+        when(cartRepository.findLineViewsByUserId(7L)).thenReturn(List.of());
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> pipeline.checkout(7L, request));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CART_ITEM_NOT_FOUND);
+        verifyNoInteractions(orderPlacer);
+    }
+
+    @Test
+    @DisplayName("checkout - 재고가 부족하면 CART_ITEM_OUT_OF_STOCK 예외가 발생하고 장바구니는 남는다")
+    void checkout_outOfStock() {
+        LocalDateTime now = LocalDateTime.now();
+        when(cartRepository.findLineViewsByUserId(7L)).thenReturn(List.of(
+                new CartLineView(1L, 11L, "상품", 10000, "https://example.com/1", 3, 1, now, now)));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(orderPlacer.place(eq(user), any(CreateOrderRequestDto.class)))
+                .thenThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK, "재고가 부족합니다."));
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> pipeline.checkout(7L, request));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CART_ITEM_OUT_OF_STOCK);
+        verify(cartRepository, never()).deleteByUserIdAndIdIn(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("checkout - 재고 부족이 아닌 예외는 재고 부족으로 바꾸지 않고 그대로 전달한다")
+    void checkout_otherFailuresPropagate() {
+        LocalDateTime now = LocalDateTime.now();
+        when(cartRepository.findLineViewsByUserId(7L)).thenReturn(List.of(
+                new CartLineView(1L, 11L, "상품", 10000, "https://example.com/1", 3, 1, now, now)));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(orderPlacer.place(eq(user), any(CreateOrderRequestDto.class)))
+                .thenThrow(new IllegalStateException("아웃박스 이벤트 직렬화 실패"));
+
+        assertThrows(IllegalStateException.class, () -> pipeline.checkout(7L, request));
+
+        verify(cartRepository, never()).deleteByUserIdAndIdIn(any(), anyList());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.commerce_mvp.application.cart;
+
+import com.example.commerce_mvp.application.cart.dto.AddCartItemRequestDto;
+import com.example.commerce_mvp.application.user.UserPrincipal;
+import com.example.commerce_mvp.domain.cart.Cart;
+import com.example.commerce_mvp.domain.cart.CartRepository;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRepository;
+import com.example.commerce_mvp.domain.user.UserRole;
+import com.example.commerce_mvp.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CartConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ADDS_PER_THREAD = 5;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private User user;
+    private Product product;
+
+    // 여러 스레드의 커밋이 필요해 트랜잭션 롤백 대신 직접 정리
+    @AfterEach
+    void tearDown() {
+        if (user != null) {
+            cartRepository.deleteAll(cartRepository.findByUserOrderByUpdatedAtDesc(user));
+            userRepository.delete(user);
+        }
+        if (product != null) {
+            productRepository.delete(product);
+        }
+    }
+
+    @Test
+    @DisplayName("addCartItem - 같은 상품을 동시에 처음 담아도 한 줄로 합쳐지고 수량이 모두 반영된다")
+    void addCartItem_concurrentFirstAdds() throws Exception {
+        user = userRepository.save(TestFixtures.createUser("concurrent@example.com", UserRole.USER));
+        product = productRepository.save(Product.of("동시성 상품", 1000, "https://example.com/c", "concurrent-1",
+                "category1", "category2"));
+        UserPrincipal principal = new UserPrincipal(user);
+        AddCartItemRequestDto request = AddCartItemRequestDto.builder()
+                .productId(product.getId())
+                .quantity(1)
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+                    try {
+                        start.await();
+                        for (int j = 0; j < ADDS_PER_THREAD; j++) {
+                            cartService.addCartItem(request);
+                        }
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Cart> carts = cartRepository.findByUserOrderByUpdatedAtDesc(user);
+        assertThat(carts).hasSize(1);
+        assertThat(carts.get(0).getQuantity()).isEqualTo(THREADS * ADDS_PER_THREAD);
+    }
+}
@@ -1,38 +1,45 @@
 package com.example.commerce_mvp.application.cart;
 
 import com.example.commerce_mvp.application.cart.dto.AddCartItemRequestDto;
+import com.example.commerce_mvp.application.cart.dto.CartBatchRequestDto;
+import com.example.commerce_mvp.application.cart.dto.CartBatchRequestDto.OperationDto;
+import com.example.commerce_mvp.application.cart.dto.CartBatchRequestDto.OperationType;
+import com.example.commerce_mvp.application.cart.dto.CartBatchResponseDto;
 import com.example.commerce_mvp.application.cart.dto.CartItemResponseDto;
 import com.example.commerce_mvp.application.cart.dto.CartSummaryResponseDto;
-import com.example.commerce_mvp.application.cart.dto.CreateOrderFromCartRequestDto;
+import com.example.commerce_mvp.application.cart.dto.UpdateCartItemRequestDto;
 import com.example.commerce_mvp.application.common.exception.BusinessException;
 import com.example.commerce_mvp.application.common.exception.ErrorCode;
-import com.example.commerce_mvp.application.order.OrderService;
-import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
-import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
 import com.example.commerce_mvp.application.common.util.SecurityContextUtils;
-import com.example.commerce_mvp.domain.cart.Cart;
+import com.example.commerce_mvp.application.user.UserPrincipal;
+import com.example.commerce_mvp.domain.cart.CartItemOwner;
+import com.example.commerce_mvp.domain.cart.CartLineView;
 import com.example.commerce_mvp.domain.cart.CartRepository;
-import com.example.commerce_mvp.domain.product.Product;
 import com.example.commerce_mvp.domain.product.ProductRepository;
 import com.example.commerce_mvp.domain.user.User;
 import com.example.commerce_mvp.domain.user.UserRepository;
 import com.example.commerce_mvp.domain.user.UserRole;
 import com.example.commerce_mvp.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -46,207 +53,213 @@ class CartServiceTest {
     private CartRepository cartRepository;
 
     @Mock
-    private ProductRepository productRepository;
+    private UserRepository userRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ProductRepository productRepository;
 
     @Mock
-    private OrderService orderService;
+    private CartCheckoutPipeline cartCheckoutPipeline;
+
+    @Spy
+    private CartViewCache cartViewCache = new CartViewCache(100, 60000, new SimpleMeterRegistry());
 
     @Test
-    @DisplayName("addCartItem - 기존 장바구니 아이템이 있으면 수량을 증가시킨다")
-    void addCartItem_existingCart() {
-        String userEmail = "user@example.com";
-        User user = TestFixtures.createUser(userEmail, UserRole.USER);
-        Product product = TestFixtures.createProduct(1L, "상품", 10000, 10);
-        Cart existingCart = TestFixtures.createCart(1L, user, product, 1);
+    @DisplayName("addCartItem - upsert 한 번으로 담고 담긴 결과를 프로젝션으로 돌려준다")
+    void addCartItem_upsert() {
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        LocalDateTime now = LocalDateTime.now();
 
         AddCartItemRequestDto request = AddCartItemRequestDto.builder()
-                .productId(product.getId())
+                .productId(1L)
                 .quantity(2)
                 .build();
 
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
-        when(cartRepository.findByUserAndProductWithLock(user, product)).thenReturn(Optional.of(existingCart));
-        when(cartRepository.save(existingCart)).thenReturn(existingCart);
+        when(cartRepository.findLineView(7L, 1L))
+                .thenReturn(Optional.of(new CartLineView(10L, 1L, "상품", 10000, "https://example.com/1", 3, 10, now, now)));
 
         try (MockedStatic<SecurityContextUtils> securityMock = mockStatic(SecurityContextUtils.class)) {
-            securityMock.when(SecurityContextUtils::getCurrentUserEmail).thenReturn(userEmail);
+            securityMock.when(SecurityContextUtils::getCurrentUser).thenReturn(new UserPrincipal(user));
 
             CartItemResponseDto response = cartService.addCartItem(request);
 
+            assertThat(response.getCartId()).isEqualTo(10L);
             assertThat(response.getQuantity()).isEqualTo(3);
-            verify(cartRepository).save(existingCart);
+            verify(cartRepository).upsertQuantity(7L, 1L, 2);
+            verifyNoInteractions(userRepository);
         }
     }
 
     @Test
-    @DisplayName("addCartItem - 새로운 상품은 장바구니에 추가한다")
-    void addCartItem_newCart() {
-        String userEmail = "user@example.com";
-        User user = TestFixtures.createUser(userEmail, UserRole.USER);
-        Product product = TestFixtures.createProduct(1L, "상품", 10000, 10);
+    @DisplayName("addCartItem - 존재하지 않는 상품이면 PRODUCT_NOT_FOUND 예외가 발생한다")
+    void addCartItem_productNotFound() {
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
 
         AddCartItemRequestDto request = AddCartItemRequestDto.builder()
-                .productId(product.getId())
-                .quantity(2)
+                .productId(99L)
+                .quantity(1)
                 .build();
 
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
-        when(cartRepository.findByUserAndProductWithLock(user, product)).thenReturn(Optional.empty());
-        when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> {
-            Cart cart = invocation.getArgument(0);
-            TestFixtures.setId(cart, 10L);
-            return cart;
-        });
+        doThrow(new DataIntegrityViolationException("FK 위반"))
+                .when(cartRepository).upsertQuantity(7L, 99L, 1);
 
         try (MockedStatic<SecurityContextUtils> securityMock = mockStatic(SecurityContextUtils.class)) {
-            securityMock.when(SecurityContextUtils::getCurrentUserEmail).thenReturn(userEmail);
+            securityMock.when(SecurityContextUtils::getCurrentUser).thenReturn(new UserPrincipal(user));
 
-            CartItemResponseDto response = cartService.addCartItem(request);
+            BusinessException exception = assertThrows(BusinessException.class, () -> cartService.addCartItem(request));
 
-            assertThat(response.getCartId()).isEqualTo(10L);
-            assertThat(response.getQuantity()).isEqualTo(2);
-            verify(cartRepository).save(any(Cart.class));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
         }
     }
 
     @Test
-    @DisplayName("createOrderFromCartItems - 장바구니 상품으로 주문을 생성한다")
-    void createOrderFromCartItems_success() {
-        String userEmail = "user@example.com";
-        User user = TestFixtures.createUser(userEmail, UserRole.USER);
-        Product product1 = TestFixtures.createProduct(1L, "상품1", 10000, 10);
-        Product product2 = TestFixtures.createProduct(2L, "상품2", 15000, 5);
-        Cart cart1 = TestFixtures.createCart(1L, user, product1, 1);
-        Cart cart2 = TestFixtures.createCart(2L, user, product2, 2);
-
-        CreateOrderFromCartRequestDto request = CreateOrderFromCartRequestDto.builder()
-                .shippingAddress("서울시")
-                .shippingName("홍길동")
-                .shippingPhone("010-0000-0000")
-                .build();
+    @DisplayName("updateCartItem - 소유자 조건이 붙은 UPDATE로 수량을 바꾸고 변경 결과를 돌려준다")
+    void updateCartItem_success() {
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        LocalDateTime now = LocalDateTime.now();
 
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(cartRepository.findByUserOrderByUpdatedAtDesc(user)).thenReturn(List.of(cart1, cart2));
-        when(cartRepository.findOutOfStockItemsByUser(user)).thenReturn(List.of());
+        when(cartRepository.updateQuantityByIdAndUserId(eq(10L), eq(7L), eq(5), any(LocalDateTime.class))).thenReturn(1);
+        when(cartRepository.findLineViewById(10L))
+                .thenReturn(Optional.of(new CartLineView(10L, 1L, "상품", 10000, "https://example.com/1", 5, 10, now, now)));
 
-        OrderResponseDto expectedResponse = OrderResponseDto.builder()
-                .orderId(99L)
-                .userEmail(userEmail)
-                .totalAmount(40000)
-                .build();
+        try (MockedStatic<SecurityContextUtils> securityMock = mockStatic(SecurityContextUtils.class)) {
+            securityMock.when(SecurityContextUtils::getCurrentUser).thenReturn(new UserPrincipal(user));
 
-        when(orderService.createOrder(eq(userEmail), any(CreateOrderRequestDto.class))).thenReturn(expectedResponse);
+            CartItemResponseDto response = cartService.updateCartItem(10L, new UpdateCartItemRequestDto(5));
 
-        try (MockedStatic<SecurityContextUtils> securityMock = mockStatic(SecurityContextUtils.class)) {
-            securityMock.when(SecurityContextUtils::getCurrentUserEmail).thenReturn(userEmail);
+            assertThat(response.getQuantity()).isEqualTo(5);
+            verify(cartRepository, never()).existsById(any());
+        }
+    }
 
-            OrderResponseDto response = cartService.createOrderFromCartItems(request);
+    @Test
+    @DisplayName("updateCartItem - 다른 사용자의 장바구니 아이템이면 ACCESS_DENIED 예외가 발생한다")
+    void updateCartItem_otherUsersItem() {
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
 
-            assertThat(response.getOrderId()).isEqualTo(99L);
+        when(cartRepository.updateQuantityByIdAndUserId(eq(10L), eq(7L), eq(5), any(LocalDateTime.class))).thenReturn(0);
+        when(cartRepository.existsById(10L)).thenReturn(true);
 
-            ArgumentCaptor<CreateOrderRequestDto> orderRequestCaptor = ArgumentCaptor.forClass(CreateOrderRequestDto.class);
-            verify(orderService).createOrder(eq(userEmail), orderRequestCaptor.capture());
+        try (MockedStatic<SecurityContextUtils> securityMock = mockStatic(SecurityContextUtils.class)) {
+            securityMock.when(SecurityContextUtils::getCurrentUser).thenReturn(new UserPrincipal(user));
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> cartService.updateCartItem(10L, new UpdateCartItemRequestDto(5)));
 
-            CreateOrderRequestDto capturedRequest = orderRequestCaptor.getValue();
-            assertThat(capturedRequest.getOrderItems()).hasSize(2);
-            assertThat(capturedRequest.getOrderItems().get(0).getProductId()).isEqualTo(product1.getId());
-            assertThat(capturedRequest.getOrderItems().get(1).getQuantity()).isEqualTo(cart2.getQuantity());
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ACCESS_DENIED);
+            verify(cartRepository, never()).findLineViewById(any());
         }
     }
 
     @Test
-    @DisplayName("createOrderFromCartItems - 장바구니가 비어있으면 예외가 발생한다")
-    void createOrderFromCartItems_emptyCart() {
-        String userEmail = "user@example.com";
-        User user = TestFixtures.createUser(userEmail, UserRole.USER);
-
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(cartRepository.findByUserOrderByUpdatedAtDesc(user)).thenReturn(List.of());
+    @DisplayName("removeCartItem - 삭제된 행이 없고 아이템도 없으면 CART_ITEM_NOT_FOUND 예외가 발생한다")
+    void removeCartItem_notFound() {
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
 
-        CreateOrderFromCartRequestDto request = CreateOrderFromCartRequestDto.builder()
-                .shippingAddress("서울시")
-                .shippingName("홍길동")
-                .shippingPhone("010-0000-0000")
-                .build();
+        when(cartRepository.deleteByIdAndUserId(10L, 7L)).thenReturn(0);
+        when(cartRepository.existsById(10L)).thenReturn(false);
 
         try (MockedStatic<SecurityContextUtils> securityMock = mockStatic(SecurityContextUtils.class)) {
-            securityMock.when(SecurityContextUtils::getCurrentUserEmail).thenReturn(userEmail);
+            securityMock.when(SecurityContextUtils::getCurrentUser).thenReturn(new UserPrincipal(user));
 
-            BusinessException exception = assertThrows(BusinessException.class,
-                    () -> cartService.createOrderFromCartItems(request));
+            BusinessException exception = assertThrows(BusinessException.class, () -> cartService.removeCartItem(10L));
 
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CART_ITEM_NOT_FOUND);
         }
     }
 
     @Test
-    @DisplayName("createOrderFromCartItems - 재고 부족 상품이 있으면 예외가 발생한다")
-    void createOrderFromCartItems_outOfStockItems() {
-        String userEmail = "user@example.com";
-        User user = TestFixtures.createUser(userEmail, UserRole.USER);
-        Product product = TestFixtures.createProduct(1L, "상품", 10000, 0);
-        Cart cart = TestFixtures.createCart(1L, user, product, 1);
-
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(cartRepository.findByUserOrderByUpdatedAtDesc(user)).thenReturn(List.of(cart));
-        when(cartRepository.findOutOfStockItemsByUser(user)).thenReturn(List.of(cart));
-
-        CreateOrderFromCartRequestDto request = CreateOrderFromCartRequestDto.builder()
-                .shippingAddress("서울시")
-                .shippingName("홍길동")
-                .shippingPhone("010-0000-0000")
+    @DisplayName("applyBatch - 연산을 종류별로 모아 한 번씩 쓰고 실패한 연산만 실패로 표시한다")
+    void applyBatch_mixedOperations() {
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        LocalDateTime now = LocalDateTime.now();
+
+        CartBatchRequestDto request = CartBatchRequestDto.builder()
+                .operations(List.of(
+                        OperationDto.builder().type(OperationType.ADD).productId(1L).quantity(2).build(),
+                        OperationDto.builder().type(OperationType.ADD).productId(1L).quantity(1).build(),
+                        OperationDto.builder().type(OperationType.ADD).productId(99L).quantity(1).build(),
+                        OperationDto.builder().type(OperationType.UPDATE).cartItemId(20L).quantity(4).build(),
+                        OperationDto.builder().type(OperationType.REMOVE).cartItemId(21L).build(),
+                        OperationDto.builder().type(OperationType.REMOVE).cartItemId(30L).build()))
                 .build();
 
+        when(productRepository.findExistingIds(anyList())).thenReturn(List.of(1L));
+        when(cartRepository.findOwnersByIds(anyList())).thenReturn(List.of(
+                new CartItemOwner(20L, 7L), new CartItemOwner(21L, 7L), new CartItemOwner(30L, 8L)));
+        when(cartRepository.findLineViewsByUserId(7L)).thenReturn(List.of(
+                new CartLineView(10L, 1L, "상품1", 10000, "https://example.com/1", 3, 10, now, now),
+                new CartLineView(20L, 2L, "상품2", 5000, "https://example.com/2", 4, 10, now, now)));
+
         try (MockedStatic<SecurityContextUtils> securityMock = mockStatic(SecurityContextUtils.class)) {
-            securityMock.when(SecurityContextUtils::getCurrentUserEmail).thenReturn(userEmail);
+            securityMock.when(SecurityContextUtils::getCurrentUser).thenReturn(new UserPrincipal(user));
 
-            BusinessException exception = assertThrows(BusinessException.class,
-                    () -> cartService.createOrderFromCartItems(request));
+            CartBatchResponseDto response = cartService.applyBatch(request);
+
+            assertThat(response.getAppliedCount()).isEqualTo(4);
+            assertThat(response.getResults()).extracting(CartBatchResponseDto.LineResultDto::getErrorCode)
+                    .containsExactly(null, null, "PRODUCT_001", null, null, "COMMON_004");
+            assertThat(response.getResults().get(0).getItem().getQuantity()).isEqualTo(3);
+            assertThat(response.getResults().get(3).getItem().getQuantity()).isEqualTo(4);
 
-            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CART_ITEM_OUT_OF_STOCK);
+            verify(cartRepository).deleteByUserIdAndIdIn(7L, List.of(21L));
+            verify(cartRepository).updateQuantities(7L, Map.of(20L, 4));
+            verify(cartRepository).upsertQuantities(7L, Map.of(1L, 3));
+            verifyNoInteractions(userRepository);
         }
     }
 
     @Test
-    @DisplayName("getCartSummary - 장바구니 요약 정보를 반환한다")
+    @DisplayName("getCartSummary - 한 번의 프로젝션 조회로 총 금액과 재고 부족 여부를 계산한다")
     void getCartSummary_success() {
-        String userEmail = "user@example.com";
-        User user = TestFixtures.createUser(userEmail, UserRole.USER);
-        Product product = TestFixtures.createProduct(1L, "상품", 10000, 10);
-        Cart cart = TestFixtures.createCart(1L, user, product, 2);
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        LocalDateTime now = LocalDateTime.now();
+        CartLineView inStock = new CartLineView(1L, 1L, "상품1", 10000, "https://example.com/1", 2, 10, now, now);
+        CartLineView outOfStock = new CartLineView(2L, 2L, "상품2", 5000, "https://example.com/2", 3, 1, now, now);
 
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(cartRepository.findByUserOrderByUpdatedAtDesc(user)).thenReturn(List.of(cart));
-        when(cartRepository.findOutOfStockItemsByUser(user)).thenReturn(List.of(cart));
-        when(cartRepository.getTotalAmountByUser(user)).thenReturn(20000L);
+        when(cartRepository.findLineViewsByUserId(7L)).thenReturn(List.of(inStock, outOfStock));
 
         try (MockedStatic<SecurityContextUtils> securityMock = mockStatic(SecurityContextUtils.class)) {
-            securityMock.when(SecurityContextUtils::getCurrentUserEmail).thenReturn(userEmail);
+            securityMock.when(SecurityContextUtils::getCurrentUser).thenReturn(new UserPrincipal(user));
 
             CartSummaryResponseDto summary = cartService.getCartSummary();
 
-            assertThat(summary.getTotalItems()).isEqualTo(1);
-            assertThat(summary.getTotalAmount()).isEqualTo(20000);
+            assertThat(summary.getTotalItems()).isEqualTo(2);
+            assertThat(summary.getTotalAmount()).isEqualTo(35000);
             assertThat(summary.isHasOutOfStockItems()).isTrue();
-            assertThat(summary.getCartItems()).hasSize(1);
+            assertThat(summary.getCartItems()).extracting(CartItemResponseDto::getTotalPrice).containsExactly(20000, 15000);
+            verifyNoInteractions(userRepository);
         }
     }
 
     @Test
-    @DisplayName("clearCartAfterOrder - 주문 완료 후 장바구니를 비운다")
-    void clearCartAfterOrder_success() {
+    @DisplayName("removeOrderedItems - 주문한 상품 중 주문 시각 이전에 담긴 장바구니 행만 삭제한다")
+    void removeOrderedItems_deletesOnlyOrderedProducts() {
         String userEmail = "user@example.com";
         User user = TestFixtures.createUser(userEmail, UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        LocalDateTime orderedAt = LocalDateTime.now();
 
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
+        when(cartRepository.deleteOrderedItems(7L, List.of(1L, 2L), orderedAt)).thenReturn(1);
+
+        cartService.removeOrderedItems(userEmail, List.of(1L, 2L), orderedAt);
 
-        cartService.clearCartAfterOrder(userEmail);
+        verify(cartRepository, never()).deleteByUser(any());
+    }
+
+    @Test
+    @DisplayName("removeOrderedItems - 상품 ID가 없는 이전 형식 이벤트는 장바구니를 건드리지 않는다")
+    void removeOrderedItems_legacyPayload() {
+        cartService.removeOrderedItems("user@example.com", List.of(), null);
 
-        verify(cartRepository).deleteByUser(user);
+        verifyNoInteractions(userRepository, cartRepository);
     }
 }
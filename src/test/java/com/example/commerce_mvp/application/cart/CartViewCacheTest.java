@@ -0,0 +1,62 @@
+package com.example.commerce_mvp.application.cart;
+
+import com.example.commerce_mvp.application.product.event.ProductChangedEvent;
+import com.example.commerce_mvp.domain.cart.CartLineView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartViewCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CartViewCache cache = new CartViewCache(100, 60000, meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("get - 두 번째 조회부터는 캐시된 목록을 사용한다")
+    void get_cachedAfterFirstLoad() {
+        cache.get(7L, this::load);
+        List<CartLineView> second = cache.get(7L, this::load);
+
+        assertThat(second).hasSize(1);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("commerce.cart.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidate - 장바구니가 바뀌면 다음 조회에서 다시 읽는다")
+    void invalidate_reloads() {
+        cache.get(7L, this::load);
+
+        cache.invalidate(7L);
+        cache.get(7L, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("onProductChanged - 담긴 상품이 바뀐 장바구니만 다시 읽는다")
+    void onProductChanged_reloadsOnlyAffectedCarts() {
+        cache.get(7L, this::load);
+
+        cache.onProductChanged(new ProductChangedEvent(List.of(2L)));
+        cache.get(7L, this::load);
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.onProductChanged(new ProductChangedEvent(List.of(1L)));
+        cache.get(7L, this::load);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private List<CartLineView> load() {
+        loads.incrementAndGet();
+        LocalDateTime now = LocalDateTime.now();
+        return List.of(new CartLineView(10L, 1L, "상품", 10000, "https://example.com/1", 1, 10, now, now));
+    }
+}
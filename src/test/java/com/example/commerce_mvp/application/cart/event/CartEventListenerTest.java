@@ -0,0 +1,55 @@
+package com.example.commerce_mvp.application.cart.event;
+
+import com.example.commerce_mvp.application.cart.CartService;
+import com.example.commerce_mvp.application.order.event.OrderCreatedEvent;
+import com.example.commerce_mvp.domain.outbox.ProcessedEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartEventListenerTest {
+
+    @InjectMocks
+    private CartEventListener cartEventListener;
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    @Test
+    @DisplayName("handleOrderCreated - 처리 기록을 먼저 남기고 주문한 상품을 장바구니에서 제거한다")
+    void handleOrderCreated_marksThenRemoves() {
+        OrderCreatedEvent event = orderCreatedEvent();
+        when(processedEventRepository.markProcessed("cart-clear-after-order", 1L)).thenReturn(true);
+
+        cartEventListener.handleOrderCreated(event);
+
+        verify(cartService).removeOrderedItems("a@example.com", List.of(100L), event.getOrderedAt());
+    }
+
+    @Test
+    @DisplayName("handleOrderCreated - 이미 처리 기록이 있는 이벤트는 예외 없이 건너뛴다")
+    void handleOrderCreated_skipsDuplicate() {
+        when(processedEventRepository.markProcessed("cart-clear-after-order", 1L)).thenReturn(false);
+
+        cartEventListener.handleOrderCreated(orderCreatedEvent());
+
+        verify(cartService, never()).removeOrderedItems(any(), any(), any());
+    }
+
+    private OrderCreatedEvent orderCreatedEvent() {
+        return new OrderCreatedEvent(this, 1L, 10L, "a@example.com", 10000, List.of(100L), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.commerce_mvp.application.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedLruCacheTest {
+
+    @Test
+    @DisplayName("put - 용량을 넘으면 가장 오래 사용하지 않은 항목을 밀어내고 evictions를 올린다")
+    void put_evictsLeastRecentlyUsed() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>(2, 60000, meterRegistry, "test.cache", "테스트");
+        cache.put("a", "A", cache.version());
+        cache.put("b", "B", cache.version());
+        cache.get("a");
+
+        cache.put("c", "C", cache.version());
+
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("b")).isNull();
+        assertThat(meterRegistry.get("test.cache.evictions").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("test.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("get - 만료 시각이 지난 항목은 돌려주지 않는다")
+    void get_skipsExpired() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>(10, 60000);
+
+        cache.put("a", "A", cache.version(), System.currentTimeMillis() - 1);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("put - 조회 시작 후 같은 키가 무효화되었다면 넣지 않고, 이후에 시작된 조회는 넣는다")
+    void put_rejectsLoadOverlappingInvalidate() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>(10, 60000);
+        long before = cache.version();
+
+        cache.invalidate("a");
+
+        assertThat(cache.put("a", "old", before)).isFalse();
+        assertThat(cache.put("b", "B", before)).isTrue();
+        assertThat(cache.put("a", "new", cache.version())).isTrue();
+        assertThat(cache.get("a")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("invalidateIf - 조건에 맞는 항목만 제거하고, 진행 중이던 조회 결과는 키와 상관없이 버린다")
+    void invalidateIf_removesMatchesAndRejectsOverlappingLoads() {
+        BoundedLruCache<Integer, Integer> cache = new BoundedLruCache<>(10, 60000);
+        cache.put(1, 1, cache.version());
+        cache.put(2, 2, cache.version());
+        long before = cache.version();
+
+        cache.invalidateIf(value -> value % 2 == 0);
+
+        assertThat(cache.get(1)).isEqualTo(1);
+        assertThat(cache.get(2)).isNull();
+        assertThat(cache.put(3, 3, before)).isFalse();
+    }
+
+    @Test
+    @DisplayName("put - 무효화 표시가 용량 초과로 밀려나도 그 이전에 시작된 조회는 넣지 않는다")
+    void put_rejectsLoadAfterTombstoneEvicted() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>(1, 60000);
+        long before = cache.version();
+        cache.invalidate("a");
+
+        cache.invalidate("b");
+
+        assertThat(cache.put("a", "old", before)).isFalse();
+    }
+
+    @Test
+    @DisplayName("maxSize가 0이면 아무것도 보관하지 않는다")
+    void disabled() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>(0, 60000);
+
+        assertThat(cache.put("a", "A", cache.version())).isFalse();
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.commerce_mvp.application.common.util;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CategoryCursorTest {
+
+    @Test
+    @DisplayName("decode - 구분자와 한글이 들어간 카테고리 이름도 그대로 복원한다")
+    void decode_roundTrip() {
+        CategoryCursor cursor = new CategoryCursor("노트북|태블릿", 42L);
+
+        CategoryCursor decoded = CategoryCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(CategoryCursor.decode(new CategoryCursor("", 7L).encode())).isEqualTo(new CategoryCursor("", 7L));
+        assertThat(CategoryCursor.decode(null)).isNull();
+        assertThat(CategoryCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("decode - Base64가 아니거나 구분자, id가 잘못된 커서는 잘못된 입력 예외가 발생한다")
+    void decode_rejectsMalformed() {
+        for (String malformed : new String[]{"not a cursor!", encode("노트북"), encode("abc|노트북")}) {
+            BusinessException exception = assertThrows(BusinessException.class, () -> CategoryCursor.decode(malformed));
+
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.commerce_mvp.application.order;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.inventory.InventoryStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LockRetryTemplateTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private InventoryStrategy inventoryStrategy;
+
+    private MeterRegistry meterRegistry;
+    private LockRetryTemplate lockRetryTemplate;
+
+    @BeforeEach
+    void setUp() {
+        when(inventoryStrategy.name()).thenReturn("pessimistic-lock");
+        meterRegistry = new SimpleMeterRegistry();
+        lockRetryTemplate = new LockRetryTemplate(transactionManager, meterRegistry, inventoryStrategy, 3, 0, 0);
+    }
+
+    @Test
+    @DisplayName("execute - 데드락으로 실패하면 새 트랜잭션으로 재시도한다")
+    void execute_retriesOnDeadlock() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = lockRetryTemplate.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw deadlock();
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(count("commerce.order.lock.retries")).isEqualTo(1);
+        assertThat(count("commerce.order.lock.deadlocks")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("execute - 재시도 횟수를 모두 사용하면 ORDER_LOCK_CONFLICT 예외가 발생한다")
+    void execute_exhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> lockRetryTemplate.execute(() -> {
+                    attempts.incrementAndGet();
+                    throw new CannotAcquireLockException("lock wait timeout");
+                }));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ORDER_LOCK_CONFLICT);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(count("commerce.order.lock.retries")).isEqualTo(2);
+        assertThat(count("commerce.order.lock.deadlocks")).isZero();
+        assertThat(count("commerce.order.lock.exhausted")).isEqualTo(1);
+    }
+
+    private CannotAcquireLockException deadlock() {
+        return new CannotAcquireLockException("deadlock",
+                new SQLException("Deadlock found when trying to get lock", "40001", 1213));
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag("strategy", "pessimistic-lock").counter().count();
+    }
+}
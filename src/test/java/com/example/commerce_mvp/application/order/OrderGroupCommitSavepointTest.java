@@ -0,0 +1,126 @@
+package com.example.commerce_mvp.application.order;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.order.OrderRepository;
+import com.example.commerce_mvp.domain.outbox.OutboxEvent;
+import com.example.commerce_mvp.domain.outbox.OutboxEventRepository;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRepository;
+import com.example.commerce_mvp.domain.user.UserRole;
+import com.example.commerce_mvp.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 실제 트랜잭션 매니저와 H2 세이브포인트로 그룹 커밋의 주문별 격리를 검증한다.
+ */
+@SpringBootTest
+class OrderGroupCommitSavepointTest {
+
+    @Autowired
+    private OrderGroupCommitter orderGroupCommitter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private User user;
+    private Product shared;
+    private Product scarce;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(TestFixtures.createUser("group-commit@example.com", UserRole.USER));
+        shared = Product.of("공통 상품", 1000, "https://example.com/shared", "group-commit-1", "category1", "category2");
+        shared.updateStock(10);
+        shared = productRepository.save(shared);
+        scarce = Product.of("한정 상품", 2000, "https://example.com/scarce", "group-commit-2", "category1", "category2");
+        scarce.updateStock(1);
+        scarce = productRepository.save(scarce);
+    }
+
+    // 배치 트랜잭션이 직접 커밋되므로 롤백 대신 직접 정리
+    @AfterEach
+    void tearDown() {
+        List<Order> orders = orderRepository.findByUserOrderByOrderDateDesc(user);
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+        outboxEventRepository.deleteAll(outboxEventRepository.findAll().stream()
+                .filter(event -> orderIds.contains(event.getAggregateId()))
+                .toList());
+        orderRepository.deleteAll(orders);
+        productRepository.deleteAll(List.of(shared, scarce));
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("processBatch - 두 번째 주문이 재고 차감 도중 실패해도 첫 번째와 세 번째 주문만 재고, 아웃박스와 함께 커밋된다")
+    void processBatch_rollsBackOnlyFailedOrder() {
+        // 두 번째 주문은 공통 상품을 먼저 차감한 뒤 한정 상품에서 실패
+        OrderGroupCommitter.PendingOrder first = pending(item(shared, 2));
+        OrderGroupCommitter.PendingOrder second = pending(item(shared, 3), item(scarce, 5));
+        OrderGroupCommitter.PendingOrder third = pending(item(shared, 4));
+
+        orderGroupCommitter.processBatch(List.of(first, second, third));
+
+        OrderResponseDto firstResponse = first.future().join();
+        OrderResponseDto thirdResponse = third.future().join();
+        CompletionException failure = assertThrows(CompletionException.class, () -> second.future().join());
+        assertThat(failure.getCause()).isInstanceOf(BusinessException.class);
+        assertThat(((BusinessException) failure.getCause()).getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+
+        // 실패한 주문의 공통 상품 차감(3개)은 반영되지 않아야 함
+        assertThat(productRepository.findStockById(shared.getId())).contains(10 - 2 - 4);
+        assertThat(productRepository.findStockById(scarce.getId())).contains(1);
+
+        List<Long> orderIds = orderRepository.findByUserOrderByOrderDateDesc(user).stream()
+                .map(Order::getId)
+                .toList();
+        assertThat(orderIds).containsExactlyInAnyOrder(firstResponse.getOrderId(), thirdResponse.getOrderId());
+        assertThat(outboxEventRepository.findAll().stream()
+                .map(OutboxEvent::getAggregateId)
+                .filter(orderIds::contains))
+                .containsExactlyInAnyOrder(firstResponse.getOrderId(), thirdResponse.getOrderId());
+    }
+
+    private OrderGroupCommitter.PendingOrder pending(CreateOrderRequestDto.OrderItemRequestDto... items) {
+        CreateOrderRequestDto request = CreateOrderRequestDto.builder()
+                .orderItems(List.of(items))
+                .shippingAddress("주소")
+                .shippingName("홍길동")
+                .shippingPhone("010-0000-0000")
+                .build();
+        return new OrderGroupCommitter.PendingOrder(user.getEmail(), request, new CompletableFuture<>());
+    }
+
+    private static CreateOrderRequestDto.OrderItemRequestDto item(Product product, int quantity) {
+        return CreateOrderRequestDto.OrderItemRequestDto.builder()
+                .productId(product.getId())
+                .quantity(quantity)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.commerce_mvp.application.order;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
+import com.example.commerce_mvp.application.order.inventory.InventoryStrategy;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.user.UserRole;
+import com.example.commerce_mvp.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderGroupCommitterTest {
+
+    @Mock
+    private OrderPlacer orderPlacer;
+
+    @Mock
+    private LockRetryTemplate lockRetryTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private InventoryStrategy inventoryStrategy;
+
+    private OrderGroupCommitter orderGroupCommitter;
+
+    @BeforeEach
+    void setUp() {
+        when(inventoryStrategy.name()).thenReturn("pessimistic-lock");
+        orderGroupCommitter = new OrderGroupCommitter(orderPlacer, lockRetryTemplate, entityManager,
+                transactionManager, new SimpleMeterRegistry(), inventoryStrategy, true, 64, 5, 1024, 10000);
+    }
+
+    @Test
+    @DisplayName("processBatch - 실패한 주문만 예외로 완료되고 나머지 주문은 함께 커밋된다")
+    void processBatch_isolatesFailures() {
+        CreateOrderRequestDto okRequest = request();
+        CreateOrderRequestDto failRequest = request();
+        Order order = Order.createOrder(TestFixtures.createUser("ok@example.com", UserRole.USER), "주소", "010-0000-0000", "홍길동");
+        TestFixtures.setId(order, 1L);
+
+        when(lockRetryTemplate.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        when(orderPlacer.place("ok@example.com", okRequest)).thenReturn(order);
+        when(orderPlacer.place("fail@example.com", failRequest))
+                .thenThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK, "재고가 부족합니다."));
+
+        OrderGroupCommitter.PendingOrder ok = new OrderGroupCommitter.PendingOrder("ok@example.com", okRequest, new CompletableFuture<>());
+        OrderGroupCommitter.PendingOrder fail = new OrderGroupCommitter.PendingOrder("fail@example.com", failRequest, new CompletableFuture<>());
+
+        orderGroupCommitter.processBatch(List.of(ok, fail));
+
+        OrderResponseDto response = ok.future().join();
+        assertThat(response.getOrderId()).isEqualTo(1L);
+        assertThat(fail.future()).isCompletedExceptionally();
+        verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("processBatch - 배치 트랜잭션이 실패하면 모든 호출자에게 실패를 전달한다")
+    void processBatch_batchFailure() {
+        BusinessException conflict = new BusinessException(ErrorCode.ORDER_LOCK_CONFLICT);
+        when(lockRetryTemplate.execute(any())).thenThrow(conflict);
+
+        OrderGroupCommitter.PendingOrder first = new OrderGroupCommitter.PendingOrder("a@example.com", request(), new CompletableFuture<>());
+        OrderGroupCommitter.PendingOrder second = new OrderGroupCommitter.PendingOrder("b@example.com", request(), new CompletableFuture<>());
+
+        orderGroupCommitter.processBatch(List.of(first, second));
+
+        assertThat(first.future()).isCompletedExceptionally();
+        assertThat(second.future()).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("submit - 처리 스레드가 Error로 멈춰도 호출자는 기다리지 않고 실패를 받는다")
+    void submit_dispatcherErrorFailsCaller() throws Exception {
+        when(lockRetryTemplate.execute(any())).thenThrow(new StackOverflowError());
+        orderGroupCommitter.start();
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                    assertThrows(StackOverflowError.class, () -> orderGroupCommitter.submit("a@example.com", request())));
+        } finally {
+            orderGroupCommitter.stop();
+        }
+        assertThat(orderGroupCommitter.isEnabled()).isFalse();
+    }
+
+    private CreateOrderRequestDto request() {
+        return CreateOrderRequestDto.builder()
+                .orderItems(List.of(CreateOrderRequestDto.OrderItemRequestDto.builder()
+                        .productId(1L)
+                        .quantity(1)
+                        .build()))
+                .shippingAddress("주소")
+                .shippingName("홍길동")
+                .shippingPhone("010-0000-0000")
+                .build();
+    }
+}
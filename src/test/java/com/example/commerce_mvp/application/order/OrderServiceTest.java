@@ -5,7 +5,12 @@ import com.example.commerce_mvp.application.common.exception.BusinessException;
 import com.example.commerce_mvp.application.common.exception.ErrorCode;
 import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
 import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
-import com.example.commerce_mvp.application.order.event.OrderCreatedEvent;
+import com.example.commerce_mvp.application.order.event.OrderEventOutbox;
+import com.example.commerce_mvp.application.order.inventory.InventoryStrategy;
+import com.example.commerce_mvp.application.order.inventory.PessimisticLockInventoryStrategy;
+import com.example.commerce_mvp.application.product.ShardedStockService;
+import com.example.commerce_mvp.application.product.event.ProductChangedEvent;
+import com.example.commerce_mvp.application.user.UserPrincipal;
 import com.example.commerce_mvp.domain.order.Order;
 import com.example.commerce_mvp.domain.order.OrderItem;
 import com.example.commerce_mvp.domain.order.OrderRepository;
@@ -16,24 +21,23 @@ import com.example.commerce_mvp.domain.user.User;
 import com.example.commerce_mvp.domain.user.UserRepository;
 import com.example.commerce_mvp.domain.user.UserRole;
 import com.example.commerce_mvp.support.TestFixtures;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -43,7 +47,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
 
-    @InjectMocks
     private OrderService orderService;
 
     @Mock
@@ -55,16 +58,39 @@ class OrderServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+
+    @Mock
+    private LockRetryTemplate lockRetryTemplate;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
+    @Mock
+    private OrderGroupCommitter orderGroupCommitter;
+
+    @Mock
+    private EntityManager entityManager;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @BeforeEach
+    void setUp() {
+        InventoryStrategy inventoryStrategy = new PessimisticLockInventoryStrategy(productRepository, shardedStockService, entityManager);
+        orderService = new OrderService(orderRepository, userRepository, inventoryStrategy, lockRetryTemplate,
+                new OrderPlacer(orderRepository, userRepository, inventoryStrategy, orderEventOutbox, eventPublisher),
+                orderGroupCommitter, eventPublisher);
+    }
+
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
     }
 
     @Test
-    @DisplayName("createOrder - 정상 요청이면 주문을 생성하고 이벤트를 발행한다")
+    @DisplayName("createOrder - 정상 요청이면 주문을 생성하고 이벤트를 아웃박스에 기록한다")
     void createOrder_success() {
         String userEmail = "user@example.com";
         User user = TestFixtures.createUser(userEmail, UserRole.USER);
@@ -80,6 +106,7 @@ class OrderServiceTest {
                 .shippingPhone("010-1234-5678")
                 .build();
 
+        givenNoRetry();
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
         when(productRepository.findByIdsWithLock(List.of(product.getId()))).thenReturn(List.of(product));
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
@@ -99,13 +126,8 @@ class OrderServiceTest {
         assertThat(response.getOrderItems()).hasSize(1);
         assertThat(product.getStock()).isEqualTo(8);
 
-        ArgumentCaptor<OrderCreatedEvent> eventCaptor = ArgumentCaptor.forClass(OrderCreatedEvent.class);
-        verify(eventPublisher).publishEvent(eventCaptor.capture());
-
-        OrderCreatedEvent publishedEvent = eventCaptor.getValue();
-        assertThat(publishedEvent.getOrderId()).isEqualTo(1L);
-        assertThat(publishedEvent.getUserEmail()).isEqualTo(userEmail);
-        assertThat(publishedEvent.getTotalAmount()).isEqualTo(20000);
+        verify(orderEventOutbox).orderCreated(argThat(order -> order.getId().equals(1L)));
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(List.of(1L)));
     }
 
     @Test
@@ -124,6 +146,7 @@ class OrderServiceTest {
                 .shippingPhone("010-1234-5678")
                 .build();
 
+        givenNoRetry();
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
         when(productRepository.findByIdsWithLock(List.of(99L))).thenReturn(Collections.emptyList());
 
@@ -144,7 +167,7 @@ class OrderServiceTest {
         Order order = Order.createOrder(owner, "주소", "010-0000-0000", "홍길동");
         TestFixtures.setId(order, 1L);
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
 
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> orderService.getOrder(1L, requester.getEmail()));
@@ -166,7 +189,7 @@ class OrderServiceTest {
         order.calculateTotalAmount();
         TestFixtures.setId(order, 1L);
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         OrderResponseDto response = orderService.cancelOrder(1L, user.getEmail());
@@ -219,25 +242,65 @@ class OrderServiceTest {
         order.calculateTotalAmount();
         TestFixtures.setId(order, 1L);
 
-        PageRequest pageRequest = PageRequest.of(0, 10);
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(orderRepository.findByUserOrderByOrderDateDesc(user, pageRequest))
-                .thenReturn(new PageImpl<>(List.of(order), pageRequest, 1));
+        when(orderRepository.findFirstPageByUser(user, PageRequest.of(0, 11))).thenReturn(List.of(order));
 
-        SliceResponse<OrderResponseDto> response = orderService.getMyOrders(userEmail, 0, 10);
+        SliceResponse<OrderResponseDto> response = orderService.getMyOrders(userEmail, null, 10);
 
         assertThat(response.getContent()).hasSize(1);
         assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
         assertThat(response.getContent().get(0).getOrderId()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("getMyOrders - 다음 페이지가 있으면 마지막 주문 기준 커서를 돌려주고 그 커서로 이어서 조회한다")
+    void getMyOrders_keysetCursor() {
+        String userEmail = "user@example.com";
+        User user = TestFixtures.createUser(userEmail, UserRole.USER);
+        Order newer = Order.createOrder(user, "주소", "010-0000-0000", "홍길동");
+        Order older = Order.createOrder(user, "주소", "010-0000-0000", "홍길동");
+        TestFixtures.setId(newer, 2L);
+        TestFixtures.setId(older, 1L);
+
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
+        when(orderRepository.findFirstPageByUser(user, PageRequest.of(0, 2))).thenReturn(List.of(newer, older));
+
+        SliceResponse<OrderResponseDto> firstPage = orderService.getMyOrders(userEmail, null, 1);
+
+        assertThat(firstPage.getContent()).hasSize(1);
+        assertThat(firstPage.isHasNext()).isTrue();
+
+        when(orderRepository.findPageByUserAfter(user, newer.getOrderDate(), 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(older));
+
+        SliceResponse<OrderResponseDto> secondPage = orderService.getMyOrders(userEmail, firstPage.getNextCursor(), 1);
+
+        assertThat(secondPage.getContent()).extracting(OrderResponseDto::getOrderId).containsExactly(1L);
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("getMyOrders - 해석할 수 없는 커서는 잘못된 입력으로 거부한다")
+    void getMyOrders_invalidCursor() {
+        String userEmail = "user@example.com";
+        User user = TestFixtures.createUser(userEmail, UserRole.USER);
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> orderService.getMyOrders(userEmail, "not-a-cursor", 10));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private void givenNoRetry() {
+        when(lockRetryTemplate.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     private void setAuthentication(User user) {
+        UserPrincipal principal = new UserPrincipal(user);
         UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(
-                        user,
-                        null,
-                        List.of(new SimpleGrantedAuthority(user.getRole().getValue()))
-                );
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
@@ -0,0 +1,126 @@
+package com.example.commerce_mvp.application.order.event;
+
+import com.example.commerce_mvp.domain.outbox.OutboxEvent;
+import com.example.commerce_mvp.domain.outbox.OutboxEventRepository;
+import com.example.commerce_mvp.support.TestFixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderEventRelay orderEventRelay;
+
+    @BeforeEach
+    void setUp() {
+        orderEventRelay = new OrderEventRelay(outboxEventRepository, eventPublisher, new ObjectMapper(),
+                transactionManager, new SimpleMeterRegistry(), new SyncTaskExecutor(), 10, 5, 604800000);
+    }
+
+    @Test
+    @DisplayName("relay - 발행 대기 이벤트를 주문 이벤트로 복원해 전달하고 한 번에 발행 완료 처리한다")
+    void relay_publishesBatch() {
+        OutboxEvent first = outboxEvent(1L, 10L, "a@example.com");
+        OutboxEvent second = outboxEvent(2L, 11L, "b@example.com");
+        when(outboxEventRepository.claimPending(eq(5), any())).thenReturn(List.of(first, second));
+        when(outboxEventRepository.findOldestPendingCreatedAt(5)).thenReturn(Optional.empty());
+
+        orderEventRelay.relay();
+
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        OrderCreatedEvent event = (OrderCreatedEvent) eventCaptor.getAllValues().get(0);
+        assertThat(event.getEventId()).isEqualTo(1L);
+        assertThat(event.getOrderId()).isEqualTo(10L);
+        assertThat(event.getUserEmail()).isEqualTo("a@example.com");
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any());
+        verify(outboxEventRepository, never()).recordFailure(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("relay - 배치 전달이 실패하면 이벤트 단위로 재전달하고 실패한 이벤트만 재시도 대상으로 남긴다")
+    void relay_isolatesFailure() {
+        OutboxEvent ok = outboxEvent(1L, 10L, "ok@example.com");
+        OutboxEvent fail = outboxEvent(2L, 11L, "fail@example.com");
+        when(outboxEventRepository.claimPending(eq(5), any())).thenReturn(List.of(ok, fail));
+        when(outboxEventRepository.findOldestPendingCreatedAt(5)).thenReturn(Optional.of(LocalDateTime.now().minusSeconds(30)));
+        when(outboxEventRepository.claimPendingById(1L, 5)).thenReturn(Optional.of(ok));
+        when(outboxEventRepository.claimPendingById(2L, 5)).thenReturn(Optional.of(fail));
+        doThrow(new IllegalStateException("리스너 실패"))
+                .when(eventPublisher).publishEvent(argThat((Object e) ->
+                        e instanceof OrderCreatedEvent created && created.getEventId().equals(2L)));
+
+        orderEventRelay.relay();
+
+        verify(outboxEventRepository).markPublished(eq(List.of(1L)), any());
+        verify(outboxEventRepository, never()).markPublished(eq(List.of(2L)), any());
+        verify(outboxEventRepository).recordFailure(eq(2L), eq("리스너 실패"));
+        assertThat(orderEventRelay.getLagMillis()).isGreaterThanOrEqualTo(30000);
+    }
+
+    @Test
+    @DisplayName("relay - 배치가 롤백된 사이 다른 노드가 가져간 이벤트는 재전달하지 않고 실패로 세지 않는다")
+    void relay_skipsEventClaimedElsewhere() {
+        OutboxEvent taken = outboxEvent(1L, 10L, "taken@example.com");
+        OutboxEvent fail = outboxEvent(2L, 11L, "fail@example.com");
+        when(outboxEventRepository.claimPending(eq(5), any())).thenReturn(List.of(taken, fail));
+        when(outboxEventRepository.findOldestPendingCreatedAt(5)).thenReturn(Optional.empty());
+        when(outboxEventRepository.claimPendingById(1L, 5)).thenReturn(Optional.empty());
+        when(outboxEventRepository.claimPendingById(2L, 5)).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("리스너 실패"))
+                .when(eventPublisher).publishEvent(argThat((Object e) ->
+                        e instanceof OrderCreatedEvent created && created.getEventId().equals(2L)));
+
+        orderEventRelay.relay();
+
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+        verify(outboxEventRepository, never()).recordFailure(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("onOutboxEventRecorded - 주문 커밋 직후 실행기에서 릴레이를 바로 실행한다")
+    void onOutboxEventRecorded_kicksRelay() {
+        when(outboxEventRepository.claimPending(eq(5), any())).thenReturn(List.of());
+        when(outboxEventRepository.findOldestPendingCreatedAt(5)).thenReturn(Optional.empty());
+
+        orderEventRelay.onOutboxEventRecorded(new OutboxEventRecordedEvent(1L));
+        orderEventRelay.onOutboxEventRecorded(new OutboxEventRecordedEvent(2L));
+
+        verify(outboxEventRepository, times(2)).claimPending(eq(5), any());
+    }
+
+    private OutboxEvent outboxEvent(Long id, Long orderId, String userEmail) {
+        String payload = "{\"orderId\":" + orderId + ",\"userEmail\":\"" + userEmail + "\",\"totalAmount\":10000}";
+        OutboxEvent event = OutboxEvent.of(OrderCreatedEvent.TYPE, orderId, payload);
+        TestFixtures.setId(event, id);
+        return event;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.product.ShardedStockService;
+import com.example.commerce_mvp.domain.order.Order;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRole;
+import com.example.commerce_mvp.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateInventoryStrategyTest {
+
+    @InjectMocks
+    private ConditionalUpdateInventoryStrategy inventoryStrategy;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
+    @Test
+    @DisplayName("allocate - 같은 상품은 수량을 합산해 상품 ID 순서로 한 번씩만 차감한다")
+    void allocate_mergesQuantitiesInIdOrder() {
+        Product first = TestFixtures.createProduct(1L, "상품1", 10000, 10);
+        Product second = TestFixtures.createProduct(2L, "상품2", 5000, 10);
+        Order order = createOrder();
+
+        when(productRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(second, first));
+        when(productRepository.decreaseStockIfAvailable(anyLong(), anyInt())).thenReturn(1);
+
+        inventoryStrategy.allocate(order, List.of(item(2L, 1), item(1L, 2), item(2L, 3)));
+
+        assertThat(order.getOrderItems()).hasSize(3);
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).decreaseStockIfAvailable(1L, 2);
+        inOrder.verify(productRepository).decreaseStockIfAvailable(2L, 4);
+    }
+
+    @Test
+    @DisplayName("allocate - 조건부 UPDATE가 0건이면 재고 부족 예외가 발생한다")
+    void allocate_insufficientStock() {
+        Product first = TestFixtures.createProduct(1L, "상품1", 10000, 10);
+        Product second = TestFixtures.createProduct(2L, "상품2", 5000, 0);
+        Order order = createOrder();
+
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(productRepository.decreaseStockIfAvailable(1L, 1)).thenReturn(1);
+        when(productRepository.decreaseStockIfAvailable(2L, 1)).thenReturn(0);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> inventoryStrategy.allocate(order, List.of(item(1L, 1), item(2L, 1))));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+    }
+
+    @Test
+    @DisplayName("allocate - 수량이 0 이하이면 재고를 변경하지 않는다")
+    void allocate_invalidQuantity() {
+        Product product = TestFixtures.createProduct(1L, "상품1", 10000, 10);
+        Order order = createOrder();
+
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> inventoryStrategy.allocate(order, List.of(item(1L, -1))));
+
+        verify(productRepository, never()).decreaseStockIfAvailable(anyLong(), anyInt());
+    }
+
+    private Order createOrder() {
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        return Order.createOrder(user, "주소", "010-0000-0000", "홍길동");
+    }
+
+    private CreateOrderRequestDto.OrderItemRequestDto item(Long productId, int quantity) {
+        return CreateOrderRequestDto.OrderItemRequestDto.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build();
+    }
+}
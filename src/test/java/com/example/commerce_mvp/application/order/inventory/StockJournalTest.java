@@ -0,0 +1,60 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("sync - 여러 스레드가 동시에 기록하고 동기화를 기다려도 모든 기록이 순번대로 남는다")
+    void sync_concurrentAppends() throws Exception {
+        Path path = tempDir.resolve("stock-journal.log");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (StockJournal journal = new StockJournal(path, true)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                long productId = i;
+                futures.add(executor.submit(() -> journal.sync(journal.append(Map.of(productId, -1)))));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(journal.readAfter(0)).extracting(StockJournal.Entry::seq)
+                    .containsExactlyElementsOf(LongStream.rangeClosed(1, 200).boxed().toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("sync - 정리로 파일이 교체된 뒤에도 남은 기록의 동기화를 바로 마친다")
+    void sync_afterDiscard() throws IOException {
+        try (StockJournal journal = new StockJournal(tempDir.resolve("stock-journal.log"), true)) {
+            journal.append(Map.of(1L, -1));
+            long seq = journal.append(Map.of(2L, -1));
+
+            journal.discardUpTo(1);
+            journal.sync(seq);
+
+            assertThat(journal.readAfter(0)).containsExactly(new StockJournal.Entry(2, 2L, -1));
+        }
+    }
+}
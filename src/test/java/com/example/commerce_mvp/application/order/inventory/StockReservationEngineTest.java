@@ -0,0 +1,176 @@
+package com.example.commerce_mvp.application.order.inventory;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.product.StockJournalCheckpoint;
+import com.example.commerce_mvp.domain.product.StockJournalCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationEngineTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockJournalCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("reserve - 동시에 예약해도 재고보다 많이 수락하지 않고 대조 결과가 일치한다")
+    void reserve_neverOversells() throws Exception {
+        when(productRepository.findStockById(1L)).thenReturn(Optional.of(100));
+        StockReservationEngine engine = createEngine();
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 50; i++) {
+                    if (engine.reserve(new TreeMap<>(Map.of(1L, 1))).isEmpty()) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(accepted.get()).isEqualTo(100);
+        assertThat(engine.available(1L)).isZero();
+        assertThat(engine.reconcile()).isEmpty();
+
+        engine.flush();
+        verify(productRepository).applyStockDelta(1L, -100);
+    }
+
+    @Test
+    @DisplayName("reserve - 한 상품이라도 부족하면 앞서 잡은 예약까지 되돌린다")
+    void reserve_rollsBackPartialReservation() {
+        when(productRepository.findStockById(1L)).thenReturn(Optional.of(5));
+        when(productRepository.findStockById(2L)).thenReturn(Optional.of(1));
+        StockReservationEngine engine = createEngine();
+
+        Optional<Long> rejected = engine.reserve(new TreeMap<>(Map.of(1L, 3, 2L, 2)));
+
+        assertThat(rejected).contains(2L);
+        assertThat(engine.available(1L)).isEqualTo(5);
+        assertThat(engine.available(2L)).isEqualTo(1);
+        engine.flush();
+        verify(productRepository, never()).applyStockDelta(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("reserve - 없는 상품이 섞여 있으면 예약을 잡지 않고 PRODUCT_NOT_FOUND로 거절한다")
+    void reserve_rejectsUnknownProduct() {
+        when(productRepository.findStockById(1L)).thenReturn(Optional.of(5));
+        when(productRepository.findStockById(2L)).thenReturn(Optional.empty());
+        StockReservationEngine engine = createEngine();
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> engine.reserve(new TreeMap<>(Map.of(1L, 1, 2L, 1))));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
+        assertThat(engine.available(1L)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("reconcile - 엔진 밖에서 DB 재고가 바뀐 상품을 보고하고 메모리 재고를 DB 기준으로 다시 맞춘다")
+    void reconcile_resyncsChangedProduct() {
+        when(productRepository.findStockById(1L)).thenReturn(Optional.of(10));
+        StockReservationEngine engine = createEngine();
+        engine.reserve(new TreeMap<>(Map.of(1L, 2)));
+        // 관리자가 재고 컬럼을 직접 수정 (반영 대기 중인 -2는 그대로)
+        when(productRepository.findStockById(1L)).thenReturn(Optional.of(30));
+
+        assertThat(engine.reconcile()).containsExactly(1L);
+
+        assertThat(engine.available(1L)).isEqualTo(28);
+        assertThat(engine.reserve(new TreeMap<>(Map.of(1L, 20)))).isEmpty();
+        assertThat(engine.reconcile()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flush - 반영 도중 새 기록이 들어와도 체크포인트 순번까지의 저널 기록은 버린다")
+    void flush_discardsJournalUpToCheckpoint() {
+        Path journalPath = tempDir.resolve("stock-journal.log");
+        when(productRepository.findStockById(1L)).thenReturn(Optional.of(10));
+        StockReservationEngine engine = createEngine(journalPath);
+        engine.reserve(new TreeMap<>(Map.of(1L, 1)));
+        // DB 반영 중에 다음 주문이 들어옴
+        doAnswer(invocation -> {
+            engine.reserve(new TreeMap<>(Map.of(1L, 2)));
+            return 1;
+        }).doReturn(1)
+                .when(productRepository).applyStockDelta(anyLong(), anyInt());
+
+        engine.flush();
+
+        StockJournal journal = new StockJournal(journalPath, false);
+        assertThat(journal.readAfter(0)).containsExactly(new StockJournal.Entry(2, 1L, -2));
+        engine.flush();
+        assertThat(journal.readAfter(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("recover - 체크포인트 이후의 저널 기록만 DB에 반영한다")
+    void recover_replaysJournalAfterCheckpoint() throws Exception {
+        Path journalPath = tempDir.resolve("stock-journal.log");
+        try (StockJournal journal = new StockJournal(journalPath, false)) {
+            journal.append(Map.of(1L, -2));
+            journal.append(new TreeMap<>(Map.of(1L, -3, 2L, -1)));
+        }
+        when(checkpointRepository.findById("stock-journal"))
+                .thenReturn(Optional.of(StockJournalCheckpoint.of("stock-journal", 1)));
+
+        StockReservationEngine engine = createEngine(journalPath);
+        engine.recover();
+
+        verify(productRepository).applyStockDelta(1L, -3);
+        verify(productRepository).applyStockDelta(2L, -1);
+        verify(productRepository, never()).applyStockDelta(1L, -5);
+    }
+
+    private StockReservationEngine createEngine() {
+        return createEngine(tempDir.resolve("stock-journal.log"));
+    }
+
+    private StockReservationEngine createEngine(Path journalPath) {
+        return new StockReservationEngine(productRepository, checkpointRepository, transactionManager,
+                new SimpleMeterRegistry(), event -> { }, journalPath.toString(), false);
+    }
+}
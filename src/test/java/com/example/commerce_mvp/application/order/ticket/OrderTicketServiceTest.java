@@ -0,0 +1,181 @@
+package com.example.commerce_mvp.application.order.ticket;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.OrderService;
+import com.example.commerce_mvp.application.order.dto.CreateOrderRequestDto;
+import com.example.commerce_mvp.application.order.dto.OrderResponseDto;
+import com.example.commerce_mvp.application.order.dto.OrderTicketResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderTicketServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderTicketService orderTicketService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        orderTicketService.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열 주문 성공 - 워커가 주문을 생성하면 티켓이 COMPLETED로 바뀐다")
+    void submit_completes() throws InterruptedException {
+        orderTicketService = new OrderTicketService(orderService, new SimpleMeterRegistry(), 1, 10, 600000, 200);
+        when(orderService.createOrder(eq("user@example.com"), any()))
+                .thenReturn(OrderResponseDto.builder().orderId(42L).build());
+
+        OrderTicketResponseDto submitted = orderTicketService.submit("user@example.com", request());
+
+        OrderTicketResponseDto ticket = awaitFinished(submitted.getTicketId(), "user@example.com");
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.COMPLETED);
+        assertThat(ticket.getOrderId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("대기열 주문 실패 - 재고 부족 등 비즈니스 예외는 에러 코드와 함께 FAILED로 기록된다")
+    void submit_fails() throws InterruptedException {
+        orderTicketService = new OrderTicketService(orderService, new SimpleMeterRegistry(), 1, 10, 600000, 200);
+        when(orderService.createOrder(eq("user@example.com"), any()))
+                .thenThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK));
+
+        OrderTicketResponseDto submitted = orderTicketService.submit("user@example.com", request());
+
+        OrderTicketResponseDto ticket = awaitFinished(submitted.getTicketId(), "user@example.com");
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.FAILED);
+        assertThat(ticket.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK.getCode());
+    }
+
+    @Test
+    @DisplayName("대기열 주문 거절 - 대기열이 가득 차면 즉시 ORDER_QUEUE_FULL 예외가 발생한다")
+    void submit_queueFull() throws InterruptedException {
+        orderTicketService = new OrderTicketService(orderService, new SimpleMeterRegistry(), 1, 1, 600000, 200);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createOrder(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return OrderResponseDto.builder().orderId(1L).build();
+        });
+
+        orderTicketService.submit("user@example.com", request());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        orderTicketService.submit("user@example.com", request());
+
+        try {
+            assertThatThrownBy(() -> orderTicketService.submit("user@example.com", request()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.ORDER_QUEUE_FULL);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("종료 - 새 요청은 거절하고 이미 대기열에 들어온 주문은 모두 처리한 뒤 끝난다")
+    void shutdown_drainsQueue() throws InterruptedException {
+        orderTicketService = new OrderTicketService(orderService, new SimpleMeterRegistry(), 1, 10, 600000, 1000);
+        when(orderService.createOrder(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return OrderResponseDto.builder().orderId(1L).build();
+        });
+        List<String> ticketIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ticketIds.add(orderTicketService.submit("user@example.com", request()).getTicketId());
+        }
+
+        orderTicketService.shutdown();
+
+        for (String ticketId : ticketIds) {
+            assertThat(orderTicketService.getTicket(ticketId, "user@example.com").getStatus())
+                    .isEqualTo(OrderTicketStatus.COMPLETED);
+        }
+        assertThatThrownBy(() -> orderTicketService.submit("user@example.com", request()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ORDER_QUEUE_FULL);
+    }
+
+    @Test
+    @DisplayName("종료 - 종료 시간 안에 처리하지 못한 주문은 실패로 기록하고 abandoned로 센다")
+    void shutdown_countsAbandoned() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        orderTicketService = new OrderTicketService(orderService, meterRegistry, 1, 2, 600000, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        when(orderService.createOrder(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return OrderResponseDto.builder().orderId(1L).build();
+        });
+        orderTicketService.submit("user@example.com", request());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        String queued = orderTicketService.submit("user@example.com", request()).getTicketId();
+
+        orderTicketService.shutdown();
+
+        assertThat(meterRegistry.get("commerce.order.queue.abandoned").counter().count()).isEqualTo(1);
+        OrderTicketResponseDto ticket = orderTicketService.getTicket(queued, "user@example.com");
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.FAILED);
+        assertThat(ticket.getErrorCode()).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR.getCode());
+    }
+
+    @Test
+    @DisplayName("티켓 조회 실패 - 다른 사용자의 티켓은 찾을 수 없다")
+    void getTicket_otherUser() {
+        orderTicketService = new OrderTicketService(orderService, new SimpleMeterRegistry(), 1, 10, 600000, 200);
+        OrderTicketResponseDto submitted = orderTicketService.submit("user@example.com", request());
+
+        assertThatThrownBy(() -> orderTicketService.getTicket(submitted.getTicketId(), "other@example.com"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ORDER_TICKET_NOT_FOUND);
+    }
+
+    private OrderTicketResponseDto awaitFinished(String ticketId, String email) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        OrderTicketResponseDto ticket = orderTicketService.getTicket(ticketId, email);
+        while (ticket.getStatus() != OrderTicketStatus.COMPLETED && ticket.getStatus() != OrderTicketStatus.FAILED
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            ticket = orderTicketService.getTicket(ticketId, email);
+        }
+        return ticket;
+    }
+
+    private CreateOrderRequestDto request() {
+        return CreateOrderRequestDto.builder()
+                .orderItems(List.of(CreateOrderRequestDto.OrderItemRequestDto.builder()
+                        .productId(1L)
+                        .quantity(1)
+                        .build()))
+                .shippingAddress("주소")
+                .shippingName("홍길동")
+                .shippingPhone("010-0000-0000")
+                .build();
+    }
+}
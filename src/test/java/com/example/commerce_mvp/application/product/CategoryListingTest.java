@@ -0,0 +1,156 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.common.dto.SliceResponse;
+import com.example.commerce_mvp.application.product.dto.CategoryCountDto;
+import com.example.commerce_mvp.application.product.dto.ProductDto;
+import com.example.commerce_mvp.domain.product.CategoryCountRepository;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.infrastructure.naver.NaverApiClient;
+import com.example.commerce_mvp.infrastructure.naver.NaverSearchResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카테고리 목록의 (category2, id) 키셋 페이징과 카테고리별 상품 수 집계를 H2에서 검증한다.
+ */
+@SpringBootTest
+@Transactional
+class CategoryListingTest {
+
+    private static final String INSERT_LEGACY_PRODUCT =
+            "INSERT INTO product (name, price, stock, image_url, category1, category2, stock_bucket_count) " +
+            "VALUES ('미분류', 1000, 100, 'https://example.com', ?, ?, 0)";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductSearchUseCase productSearchUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryCountRepository categoryCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private NaverApiClient naverApiClient;
+
+    @Test
+    @DisplayName("getProductsByCategory - 대분류 전체를 중분류 경계를 넘어 (category2, id) 순서로 빠짐없이 내려준다")
+    void getProductsByCategory_pagesAcrossCategory2() {
+        List<Product> saved = new ArrayList<>();
+        // id 순서와 중분류 순서가 엇갈리도록 저장
+        for (String category2 : List.of("c-태블릿", "a-노트북", "b-모니터", "a-노트북", "c-태블릿", "b-모니터", "a-노트북")) {
+            saved.add(productRepository.save(Product.of("상품", 1000, "https://example.com", null, "paging-test", category2)));
+        }
+        productRepository.save(Product.of("다른 대분류", 1000, "https://example.com", null, "paging-other", "a-노트북"));
+
+        List<ProductDto> collected = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            SliceResponse<ProductDto> page = productService.getProductsByCategory("paging-test", null, cursor, 2);
+            collected.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Product::getCategory2).thenComparing(Product::getId))
+                .map(Product::getId)
+                .toList();
+        assertThat(collected).extracting(ProductDto::getProductId).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("getProductsByCategory - 중분류를 지정하면 그 중분류 안에서만 id 순서로 페이징한다")
+    void getProductsByCategory_withinCategory2() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(productRepository.save(Product.of("상품" + i, 1000, "https://example.com", null, "paging-test", "a-노트북")).getId());
+            productRepository.save(Product.of("상품" + i, 1000, "https://example.com", null, "paging-test", "b-모니터"));
+        }
+
+        SliceResponse<ProductDto> first = productService.getProductsByCategory("paging-test", "a-노트북", null, 2);
+        SliceResponse<ProductDto> second = productService.getProductsByCategory("paging-test", "a-노트북", first.getNextCursor(), 2);
+
+        assertThat(first.getContent()).extracting(ProductDto::getProductId).containsExactlyElementsOf(ids.subList(0, 2));
+        assertThat(second.getContent()).extracting(ProductDto::getProductId).containsExactly(ids.get(2));
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("searchAndSaveProducts - 같은 카테고리를 가진 두 번의 가져오기가 한 행에 상품 수를 누적한다")
+    void searchAndSaveProducts_accumulatesCategoryCounts() {
+        when(naverApiClient.search("첫 번째")).thenReturn(response(
+                item("import-1", "import-test", "노트북"), item("import-2", "import-test", "모니터")));
+        when(naverApiClient.search("두 번째")).thenReturn(response(
+                item("import-3", "import-test", "노트북"), item("import-4", "import-test", "노트북")));
+
+        productSearchUseCase.searchAndSaveProducts("첫 번째");
+        productSearchUseCase.searchAndSaveProducts("두 번째");
+
+        assertThat(productService.getCategoryCounts("import-test"))
+                .extracting(CategoryCountDto::getCategory2, CategoryCountDto::getProductCount)
+                .containsExactly(
+                        tuple("노트북", 3L),
+                        tuple("모니터", 1L));
+    }
+
+    @Test
+    @DisplayName("rebuildOnce - NULL 카테고리를 빈 문자열로 바꾸고 집계를 다시 만들며, 같은 버전은 한 번만 실행한다")
+    void rebuildOnce_normalizesNullCategories() {
+        // Product.of는 NULL을 빈 문자열로 바꾸므로 집계 테이블 이전에 저장된 상품처럼 직접 넣음
+        jdbcTemplate.update(INSERT_LEGACY_PRODUCT, new Object[]{null, null});
+        jdbcTemplate.update(INSERT_LEGACY_PRODUCT, "rebuild-test", null);
+
+        int categories = categoryCountRepository.rebuildOnce("test-rebuild");
+
+        assertThat(categories).isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product WHERE category1 IS NULL OR category2 IS NULL", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT product_count FROM category_counts WHERE category1 = 'rebuild-test' AND category2 = ''", Long.class))
+                .isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM category_counts", Integer.class)).isEqualTo(categories);
+        assertThat(categoryCountRepository.rebuildOnce("test-rebuild")).isEqualTo(-1);
+    }
+
+    private NaverSearchResponseDto response(NaverSearchResponseDto.Item... items) {
+        NaverSearchResponseDto response = new NaverSearchResponseDto();
+        response.setItems(List.of(items));
+        return response;
+    }
+
+    private NaverSearchResponseDto.Item item(String productId, String category1, String category2) {
+        NaverSearchResponseDto.Item item = new NaverSearchResponseDto.Item();
+        item.setTitle("<b>" + category2 + "</b> " + productId);
+        item.setLprice("10000");
+        item.setProductId(productId);
+        item.setImage("https://example.com/" + productId);
+        item.setCategory1(category1);
+        item.setCategory2(category2);
+        return item;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.product.dto.ProductDto;
+import com.example.commerce_mvp.application.product.event.ProductCatalogChangedEvent;
+import com.example.commerce_mvp.domain.product.ProductSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductDetailCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProductDetailCache cache = new ProductDetailCache(100, 60000, meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("getAll - 캐시에 없는 ID만 한 번에 읽고, 없는 상품은 결과에서 뺀다")
+    void getAll_loadsOnlyMisses() {
+        cache.getAll(List.of(1L, 2L), this::load);
+
+        Map<Long, ProductDto> result = cache.getAll(List.of(1L, 2L, 3L, 404L), ids -> {
+            assertThat(ids).containsExactlyInAnyOrder(3L, 404L);
+            return load(ids);
+        });
+
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getAll - 같은 상품을 동시에 놓친 요청은 진행 중인 조회 하나의 결과를 함께 쓴다")
+    void getAll_coalescesConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Map<Long, ProductDto>> first = CompletableFuture.supplyAsync(() ->
+                cache.getAll(List.of(1L), ids -> {
+                    loading.countDown();
+                    await(release);
+                    return load(ids);
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Map<Long, ProductDto>> second = CompletableFuture.supplyAsync(() ->
+                cache.getAll(List.of(1L), this::load));
+        // 두 번째 요청이 진행 중인 조회에 합류할 때까지 대기
+        while (meterRegistry.counter("commerce.product.detail-cache.requests", "result", "coalesced").count() < 1) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).get(1L)).isSameAs(second.get(5, TimeUnit.SECONDS).get(1L));
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onCatalogChanged - 변경된 상품만 캐시에서 제거한다")
+    void onCatalogChanged_removesChangedProducts() {
+        cache.getAll(List.of(1L, 2L), this::load);
+
+        cache.onCatalogChanged(new ProductCatalogChangedEvent(List.of(2L)));
+
+        cache.getAll(List.of(1L, 2L), ids -> {
+            assertThat(ids).containsExactly(2L);
+            return load(ids);
+        });
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    // ID가 100 이상이면 없는 상품으로 취급
+    private Map<Long, ProductDto> load(List<Long> ids) {
+        loads.incrementAndGet();
+        return ids.stream()
+                .filter(id -> id < 100)
+                .collect(Collectors.toMap(id -> id, id -> new ProductDto(
+                        new ProductSummary(id, "상품" + id, "https://example.com/" + id + ".jpg", 1000, "디지털/가전", "노트북"))));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
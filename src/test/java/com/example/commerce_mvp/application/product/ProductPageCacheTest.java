@@ -0,0 +1,50 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.product.event.ProductCatalogChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductPageCacheTest {
+
+    private final ProductPageCache cache = new ProductPageCache(100, 300000, new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("onCatalogChanged - 변경된 상품 ID가 들어간 구간의 페이지만 제거한다")
+    void onCatalogChanged_removesOnlyCoveringPages() {
+        cache.get(0, 10, () -> page(10));
+        cache.get(10, 10, () -> page(20));
+
+        cache.onCatalogChanged(new ProductCatalogChangedEvent(List.of(15L)));
+
+        cache.get(0, 10, () -> page(10));
+        assertThat(loads.get()).isEqualTo(2);
+        cache.get(10, 10, () -> page(20));
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("onCatalogChanged - 새 상품이 추가되면 다음 페이지가 없던 마지막 페이지만 제거한다")
+    void onCatalogChanged_newProductInvalidatesLastPage() {
+        cache.get(0, 10, () -> page(10));
+        cache.get(10, 10, () -> page(Long.MAX_VALUE));
+
+        cache.onCatalogChanged(new ProductCatalogChangedEvent(List.of(18L)));
+
+        cache.get(0, 10, () -> page(10));
+        cache.get(10, 10, () -> page(Long.MAX_VALUE));
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    private ProductPageCache.Page page(long lastId) {
+        loads.incrementAndGet();
+        return new ProductPageCache.Page(("{\"lastId\":" + lastId + "}").getBytes(StandardCharsets.UTF_8), lastId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.product.event.ProductCatalogChangedEvent;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.product.ProductSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(productRepository, 1000, new SimpleMeterRegistry());
+        index.addAll(List.of(
+                summary(1L, "삼성 갤럭시 북4 노트북", "디지털/가전", "노트북"),
+                summary(2L, "LG 그램 15인치", "디지털/가전", "노트북"),
+                summary(3L, "노트북 거치대 알루미늄", "디지털/가전", "주변기기"),
+                summary(4L, "무선 마우스", "디지털/가전", "주변기기")));
+    }
+
+    @Test
+    @DisplayName("search - 띄어쓰기와 대소문자가 달라도 2-gram이 모두 맞는 상품을 찾는다")
+    void search_matchesBigramsAcrossSpacing() {
+        assertThat(index.search("갤럭시북", 10)).containsExactly(1L);
+        assertThat(index.search("갤럭시 북", 10)).containsExactly(1L);
+        assertThat(index.search("lg그램", 10)).containsExactly(2L);
+        assertThat(index.search("갤럭시 그램", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search - 이름에서 맞은 상품이 카테고리에서만 맞은 상품보다 앞에 온다")
+    void search_ranksNameMatchesFirst() {
+        List<Long> result = index.search("노트북", 10);
+
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(result.get(2)).isEqualTo(2L);
+        assertThat(index.search("노트북", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("onCatalogChanged - 새로 저장된 상품만 읽어 색인에 덧붙인다")
+    void onCatalogChanged_indexesNewProducts() {
+        when(productRepository.findSummariesByIds(List.of(5L)))
+                .thenReturn(List.of(summary(5L, "게이밍 마우스 패드", "디지털/가전", "주변기기")));
+
+        index.onCatalogChanged(new ProductCatalogChangedEvent(List.of(5L)));
+
+        assertThat(index.search("마우스", 10)).containsExactly(5L, 4L);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    private static ProductSummary summary(Long id, String name, String category1, String category2) {
+        return new ProductSummary(id, name, "https://example.com/" + id + ".jpg", 10000, category1, category2);
+    }
+}
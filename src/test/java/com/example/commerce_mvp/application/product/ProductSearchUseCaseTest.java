@@ -1,6 +1,9 @@
 package com.example.commerce_mvp.application.product;
 
 
+import com.example.commerce_mvp.application.product.event.ProductCatalogChangedEvent;
+import com.example.commerce_mvp.domain.product.CategoryCountRepository;
+import com.example.commerce_mvp.domain.product.ProductCategory;
 import com.example.commerce_mvp.domain.product.ProductRepository;
 import com.example.commerce_mvp.infrastructure.naver.NaverApiClient;
 import com.example.commerce_mvp.infrastructure.naver.NaverSearchResponseDto;
@@ -10,8 +13,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.*;
 
@@ -27,6 +32,12 @@ public class ProductSearchUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private CategoryCountRepository categoryCountRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("새로운 상품이 검색되면 DB에 저장한다")
     void searchAndSaveProducts_whenNewProductsFound_shouldSaveToDb(){
@@ -46,6 +57,10 @@ public class ProductSearchUseCaseTest {
 
         verify(productRepository, times(1)).saveAll(anyList());
 
+        verify(categoryCountRepository).increment(Map.of(new ProductCategory("디지털/가전", "노트북"), 1));
+
+        verify(eventPublisher).publishEvent(any(ProductCatalogChangedEvent.class));
+
     }
 
     private NaverSearchResponseDto createFakeNaverResponse(String newProductId, String existingProductId){
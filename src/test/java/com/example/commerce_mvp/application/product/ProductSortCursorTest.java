@@ -0,0 +1,46 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductSortCursorTest {
+
+    @Test
+    @DisplayName("decode - 인코딩한 (정렬 키, id)를 그대로 복원한다")
+    void decode_roundTrip() {
+        String cursor = new ProductSortCursor(ProductSort.PRICE_DESC, 15900, 42L).encode();
+
+        ProductSortCursor decoded = ProductSortCursor.decode(cursor, ProductSort.PRICE_DESC);
+
+        assertThat(decoded.sortKey()).isEqualTo(15900);
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(ProductSortCursor.decode(null, ProductSort.PRICE_DESC)).isNull();
+    }
+
+    @Test
+    @DisplayName("decode - 다른 정렬에서 받은 커서는 거부한다")
+    void decode_rejectsOtherSort() {
+        String cursor = new ProductSortCursor(ProductSort.PRICE_ASC, 15900, 42L).encode();
+
+        assertThatThrownBy(() -> ProductSortCursor.decode(cursor, ProductSort.NEWEST))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> ProductSortCursor.decode("not-a-cursor", ProductSort.NEWEST))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("decode - int 가격 범위를 벗어난 정렬 키는 거부한다")
+    void decode_rejectsOutOfRangeKey() {
+        String overflow = new ProductSortCursor(ProductSort.PRICE_ASC, Integer.MAX_VALUE + 1L, 42L).encode();
+        String negative = new ProductSortCursor(ProductSort.PRICE_DESC, -1, 42L).encode();
+
+        assertThatThrownBy(() -> ProductSortCursor.decode(overflow, ProductSort.PRICE_ASC))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> ProductSortCursor.decode(negative, ProductSort.PRICE_DESC))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.product.ProductSuggestIndex.Suggestion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSuggestIndexTest {
+
+    @Test
+    @DisplayName("suggest - 접두어로 시작하는 이름을 인기도 순서로 돌려준다")
+    void suggest_ranksByPopularity() {
+        ProductSuggestIndex index = ProductSuggestIndex.build(List.of(
+                new Suggestion("삼성 갤럭시 북4", 5),
+                new Suggestion("삼성 갤럭시 S24", 30),
+                new Suggestion("삼성 비스포크 냉장고", 100),
+                new Suggestion("LG 그램 15인치", 50)), 10, 256);
+
+        assertThat(index.suggest("삼성 갤", 10)).containsExactly("삼성 갤럭시 S24", "삼성 갤럭시 북4");
+        assertThat(index.suggest("삼성", 2)).containsExactly("삼성 비스포크 냉장고", "삼성 갤럭시 S24");
+        assertThat(index.suggest("lg  그램", 10)).containsExactly("LG 그램 15인치");
+        assertThat(index.suggest("애플", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest - 미리 계산된 상위 목록과 구간을 직접 훑은 결과가 같다")
+    void suggest_cachedPrefixesMatchScan() {
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            suggestions.add(new Suggestion("노트북 " + i, i % 37));
+        }
+        ProductSuggestIndex cached = ProductSuggestIndex.build(suggestions, 5, 5);
+        ProductSuggestIndex scanned = ProductSuggestIndex.build(suggestions, 5, 1000);
+
+        assertThat(cached.cachedPrefixCount()).isGreaterThan(0);
+        assertThat(scanned.cachedPrefixCount()).isZero();
+        for (String prefix : List.of("노", "노트북", "노트북 1", "노트북 12", "노트북 123")) {
+            assertThat(cached.suggest(prefix, 5)).isEqualTo(scanned.suggest(prefix, 5));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.application.common.exception.BusinessException;
+import com.example.commerce_mvp.application.common.exception.ErrorCode;
+import com.example.commerce_mvp.application.order.inventory.StockReservationEngine;
+import com.example.commerce_mvp.domain.product.Product;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import com.example.commerce_mvp.domain.product.ProductStockBucket;
+import com.example.commerce_mvp.domain.product.ProductStockBucketRepository;
+import com.example.commerce_mvp.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedStockServiceTest {
+
+    @InjectMocks
+    private ShardedStockService shardedStockService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductStockBucketRepository bucketRepository;
+
+    @Mock
+    private ObjectProvider<StockReservationEngine> reservationEngine;
+
+    @Test
+    @DisplayName("decrease - 수량을 감당할 수 있는 버킷 하나에 조건부 차감한다")
+    void decrease_singleBucket() {
+        Product product = createShardedProduct(12, 4);
+
+        when(bucketRepository.findBucketIndexesWithStock(1L, 3)).thenReturn(List.of(2));
+        when(bucketRepository.decreaseStockIfAvailable(1L, 2, 3)).thenReturn(1);
+
+        shardedStockService.decrease(product, 3);
+
+        verify(bucketRepository, never()).findByProductIdWithLock(anyLong());
+    }
+
+    @Test
+    @DisplayName("decrease - 단일 버킷으로 부족하면 버킷들을 잠그고 나눠서 차감한다")
+    void decrease_spansBuckets() {
+        Product product = createShardedProduct(6, 3);
+        List<ProductStockBucket> buckets = List.of(
+                ProductStockBucket.of(1L, 0, 2),
+                ProductStockBucket.of(1L, 1, 3),
+                ProductStockBucket.of(1L, 2, 1));
+
+        when(bucketRepository.findBucketIndexesWithStock(1L, 5)).thenReturn(Collections.emptyList());
+        when(bucketRepository.findByProductIdWithLock(1L)).thenReturn(buckets);
+
+        shardedStockService.decrease(product, 5);
+
+        assertThat(buckets).extracting(ProductStockBucket::getStock).containsExactly(0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("decrease - 버킷 합계가 부족하면 재고 부족 예외가 발생한다")
+    void decrease_insufficientStock() {
+        Product product = createShardedProduct(2, 2);
+
+        when(bucketRepository.findBucketIndexesWithStock(1L, 3)).thenReturn(Collections.emptyList());
+        when(bucketRepository.findByProductIdWithLock(1L)).thenReturn(List.of(
+                ProductStockBucket.of(1L, 0, 1),
+                ProductStockBucket.of(1L, 1, 1)));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> shardedStockService.decrease(product, 3));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+    }
+
+    @Test
+    @DisplayName("increase - 버킷에 더해지면 상품 재고 컬럼은 건드리지 않는다")
+    void increase_addsToBucket() {
+        Product product = createShardedProduct(10, 1);
+
+        when(bucketRepository.increaseStock(1L, 0, 3)).thenReturn(1);
+
+        shardedStockService.increase(product, 3);
+
+        verify(productRepository, never()).applyStockDelta(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("increase - 그 사이 분할이 해제되어 버킷이 없으면 상품 재고 컬럼에 더한다")
+    void increase_fallsBackToStockColumn() {
+        Product product = createShardedProduct(10, 1);
+
+        when(bucketRepository.increaseStock(1L, 0, 3)).thenReturn(0);
+        when(productRepository.applyStockDelta(1L, 3)).thenReturn(1);
+
+        shardedStockService.increase(product, 3);
+
+        verify(productRepository).applyStockDelta(1L, 3);
+    }
+
+    @Test
+    @DisplayName("increase - 버킷에도 재고 컬럼에도 더하지 못하면 예외로 롤백한다")
+    void increase_failsWhenNothingUpdated() {
+        Product product = createShardedProduct(10, 1);
+
+        when(bucketRepository.increaseStock(1L, 0, 3)).thenReturn(0);
+        when(productRepository.applyStockDelta(1L, 3)).thenReturn(0);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> shardedStockService.increase(product, 3));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    @DisplayName("enableSharding - 상품 재고를 버킷에 고르게 나눈다")
+    void enableSharding_distributesStock() {
+        Product product = TestFixtures.createProduct(1L, "상품", 10000, 10);
+
+        when(productRepository.findByIdWithLock(1L)).thenReturn(Optional.of(product));
+
+        shardedStockService.enableSharding(1L, 3);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductStockBucket>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bucketRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(ProductStockBucket::getStock).containsExactly(4, 3, 3);
+        assertThat(product.isStockSharded()).isTrue();
+        assertThat(product.getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("enableSharding - reservation-engine 전략에서는 분할을 거절한다")
+    void enableSharding_rejectedWithReservationEngine() {
+        when(reservationEngine.getIfAvailable()).thenReturn(mock(StockReservationEngine.class));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> shardedStockService.enableSharding(1L, 3));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        verify(productRepository, never()).findByIdWithLock(anyLong());
+    }
+
+    @Test
+    @DisplayName("rebalance - 버킷이 고르면 잠그지 않고 끝낸다")
+    void rebalance_balancedSkipsLock() {
+        when(bucketRepository.findStocksByProductId(1L)).thenReturn(List.of(4, 3, 3));
+
+        assertThat(shardedStockService.rebalance(1L)).isFalse();
+
+        verify(bucketRepository, never()).findByProductIdWithLock(anyLong());
+    }
+
+    @Test
+    @DisplayName("rebalance - 치우친 버킷은 잠근 뒤 다시 확인하고 균등하게 재분배한다")
+    void rebalance_skewedRedistributes() {
+        List<ProductStockBucket> buckets = List.of(
+                ProductStockBucket.of(1L, 0, 9),
+                ProductStockBucket.of(1L, 1, 0),
+                ProductStockBucket.of(1L, 2, 1));
+
+        when(bucketRepository.findStocksByProductId(1L)).thenReturn(List.of(9, 0, 1));
+        when(bucketRepository.findByProductIdWithLock(1L)).thenReturn(buckets);
+
+        assertThat(shardedStockService.rebalance(1L)).isTrue();
+
+        assertThat(buckets).extracting(ProductStockBucket::getStock).containsExactly(4, 3, 3);
+    }
+
+    private Product createShardedProduct(int stock, int bucketCount) {
+        Product product = TestFixtures.createProduct(1L, "상품", 10000, stock);
+        product.enableStockSharding(bucketCount);
+        return product;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.commerce_mvp.application.product;
+
+import com.example.commerce_mvp.domain.lease.JobLeaseRepository;
+import com.example.commerce_mvp.domain.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockBucketRebalancerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
+    @Mock
+    private JobLeaseRepository jobLeaseRepository;
+
+    private StockBucketRebalancer rebalancer;
+
+    @BeforeEach
+    void setUp() {
+        rebalancer = new StockBucketRebalancer(productRepository, shardedStockService, jobLeaseRepository, 10000);
+    }
+
+    @Test
+    @DisplayName("rebalance - 실행 권한을 얻지 못한 노드는 아무것도 하지 않는다")
+    void rebalance_skipsWithoutLease() {
+        when(jobLeaseRepository.tryAcquire(anyString(), anyString(), eq(Duration.ofMillis(10000)))).thenReturn(false);
+
+        rebalancer.rebalance();
+
+        verifyNoInteractions(productRepository, shardedStockService);
+    }
+
+    @Test
+    @DisplayName("rebalance - 실행 권한을 얻으면 분할된 상품마다 재분배하고 실패는 다음 상품으로 넘어간다")
+    void rebalance_withLease() {
+        when(jobLeaseRepository.tryAcquire(anyString(), anyString(), any())).thenReturn(true);
+        when(productRepository.findAllStockShardedIds()).thenReturn(List.of(1L, 2L));
+        when(shardedStockService.rebalance(1L)).thenThrow(new IllegalStateException("잠금 실패"));
+
+        rebalancer.rebalance();
+
+        verify(shardedStockService).rebalance(2L);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.commerce_mvp.config;
+
+import com.example.commerce_mvp.application.user.UserPrincipal;
+import com.example.commerce_mvp.domain.user.User;
+import com.example.commerce_mvp.domain.user.UserRepository;
+import com.example.commerce_mvp.domain.user.UserRole;
+import com.example.commerce_mvp.support.TestFixtures;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "VGhpc0lzQV9UZXN0U2VjcmV0S2V5Rm9yTXlTcHJpbmdCb290UHJvamVjdF8xMjM0NTY3ODkw";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("getAuthentication - stateless 모드에서는 클레임만으로 UserPrincipal을 만든다")
+    void getAuthentication_statelessPrincipal() {
+        JwtTokenProvider jwtTokenProvider = createProvider(true);
+        User user = TestFixtures.createUser("user@example.com", UserRole.ADMIN);
+        TestFixtures.setId(user, 7L);
+        String accessToken = jwtTokenProvider.generateAccessToken(new UserPrincipal(user));
+
+        Authentication authentication = jwtTokenProvider.authenticate(accessToken).orElseThrow();
+
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getEmail()).isEqualTo("user@example.com");
+        assertThat(principal.getRole()).isEqualTo(UserRole.ADMIN);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("getAuthentication - 클레임이 stale로 표시되면 DB에서 사용자를 다시 조회한다")
+    void getAuthentication_staleClaims() {
+        JwtTokenProvider jwtTokenProvider = createProvider(true);
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        String accessToken = jwtTokenProvider.generateAccessToken(new UserPrincipal(user));
+        jwtTokenProvider.markClaimsStale(user.getEmail());
+
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        Authentication authentication = jwtTokenProvider.authenticate(accessToken).orElseThrow();
+
+        assertThat(((UserPrincipal) authentication.getPrincipal()).getId()).isEqualTo(7L);
+        verify(userRepository).findByEmail(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("getAuthentication - stateless 모드가 꺼져 있으면 요청마다 DB에서 사용자를 조회한다")
+    void getAuthentication_lookupMode() {
+        JwtTokenProvider jwtTokenProvider = createProvider(false);
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        String accessToken = jwtTokenProvider.generateAccessToken(new UserPrincipal(user));
+
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        jwtTokenProvider.authenticate(accessToken).orElseThrow();
+
+        verify(userRepository).findByEmail(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("verify - 한 번 검증된 토큰은 캐시된 Claims를 재사용한다")
+    void verify_cachedClaims() {
+        JwtTokenProvider jwtTokenProvider = createProvider(true);
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        String accessToken = jwtTokenProvider.generateAccessToken(new UserPrincipal(user));
+
+        Claims first = jwtTokenProvider.verify(accessToken).orElseThrow();
+        Claims second = jwtTokenProvider.verify(accessToken).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("verify - 서명이 변조된 토큰은 거부한다")
+    void verify_tamperedToken() {
+        JwtTokenProvider jwtTokenProvider = createProvider(true);
+        User user = TestFixtures.createUser("user@example.com", UserRole.USER);
+        TestFixtures.setId(user, 7L);
+        String accessToken = jwtTokenProvider.generateAccessToken(new UserPrincipal(user));
+        jwtTokenProvider.verify(accessToken);
+
+        int signatureStart = accessToken.lastIndexOf('.') + 1;
+        char replaced = accessToken.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        String tampered = accessToken.substring(0, signatureStart) + replaced + accessToken.substring(signatureStart + 1);
+
+        assertThat(jwtTokenProvider.verify(tampered)).isEmpty();
+    }
+
+    private JwtTokenProvider createProvider(boolean statelessPrincipal) {
+        return new JwtTokenProvider(SECRET, 3600000, 1209600000, statelessPrincipal, 100, 60000,
+                userRepository, new StaleClaimsRegistry(3600000));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.commerce_mvp.domain.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCountUpsertRepositoryImplTest {
+
+    private static final String INCREMENT =
+            "UPDATE category_counts SET product_count = product_count + ? WHERE category1 = ? AND category2 = ?";
+    private static final String INSERT =
+            "INSERT INTO category_counts (category1, category2, product_count) VALUES (?, ?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CategoryCountUpsertRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CategoryCountUpsertRepositoryImpl(jdbcTemplate);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+    }
+
+    @Test
+    @DisplayName("increment - H2에서 갱신할 행이 없으면 INSERT한다")
+    void increment_insertsWhenMissing() {
+        when(jdbcTemplate.update(INCREMENT, 2, "디지털/가전", "노트북")).thenReturn(0);
+
+        repository.increment(Map.of(new ProductCategory("디지털/가전", "노트북"), 2));
+
+        verify(jdbcTemplate).update(INSERT, "디지털/가전", "노트북", 2);
+    }
+
+    @Test
+    @DisplayName("increment - 다른 트랜잭션이 먼저 INSERT해 중복 키가 나면 다시 UPDATE한다")
+    void increment_retriesUpdateOnDuplicateKey() {
+        when(jdbcTemplate.update(INCREMENT, 2, "디지털/가전", "노트북")).thenReturn(0, 1);
+        when(jdbcTemplate.update(INSERT, "디지털/가전", "노트북", 2)).thenThrow(new DuplicateKeyException("uk_category_counts_category"));
+
+        repository.increment(Map.of(new ProductCategory("디지털/가전", "노트북"), 2));
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(INCREMENT, 2, "디지털/가전", "노트북");
+        inOrder.verify(jdbcTemplate).update(INSERT, "디지털/가전", "노트북", 2);
+        inOrder.verify(jdbcTemplate).update(INCREMENT, 2, "디지털/가전", "노트북");
+    }
+
+    @Test
+    @DisplayName("increment - 이미 있는 행은 UPDATE만 한다")
+    void increment_updatesExisting() {
+        when(jdbcTemplate.update(INCREMENT, 1, "디지털/가전", "노트북")).thenReturn(1);
+
+        repository.increment(Map.of(new ProductCategory("디지털/가전", "노트북"), 1));
+
+        verify(jdbcTemplate, never()).update(INSERT, "디지털/가전", "노트북", 1);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.commerce_mvp.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 문을 스레드별로 센다.
+ * 스케줄러 등 다른 스레드의 쿼리는 섞이지 않으므로 서비스 호출 하나의 쿼리 수를 정확히 잴 수 있다.
+ * hibernate.session_factory.statement_inspector 속성으로 등록해서 사용한다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+}